@@ -0,0 +1,102 @@
+/**
+ * @author agent
+ * @version 10.18.2026
+ *
+ * This class times decoding two hundred thousand short messages one at a
+ * time, with KTree.decode() and with KTreeDecoder.decode(), and as a batch
+ * with KTreeDecoder.decodeAll() on the common pool and on a pool with a
+ * thread for each processor.
+ *
+ * Run it with "gradle jmh --args='BatchDecodeBenchmark'".
+ */
+package ktree.bench;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import ktree.KTree;
+import ktree.KTreeDecoder;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BatchDecodeBenchmark {
+	private static final int MESSAGES = 200_000;
+
+	@Param({ "4" })
+	private int k;
+
+	// the level the letters are on
+	@Param({ "3" })
+	private int depth;
+
+	private KTree<String> codeTree;
+	private List<String> messages;
+	private KTreeDecoder decoder;
+	private ExecutorService executor;
+
+	@Setup
+	public void setUp() {
+		codeTree = new KTree<>(BenchmarkTrees.codeTreeArray(k, depth), k);
+		Random random = new Random(k);
+		messages = new ArrayList<>();
+		for (int m = 0; m < MESSAGES; m++) {
+			messages.add(BenchmarkTrees.codedMessage(k, depth, 1 + random.nextInt(10), random));
+		}
+		decoder = new KTreeDecoder(codeTree);
+		executor = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors());
+	}
+
+	@TearDown
+	public void tearDown() {
+		executor.shutdown();
+	}
+
+	@Benchmark
+	public List<String> decodeEach() {
+		List<String> decoded = new ArrayList<>(messages.size());
+		for (String message : messages) {
+			decoded.add(KTree.decode(codeTree, message));
+		}
+		return decoded;
+	}
+
+	@Benchmark
+	public List<String> decoderDecodeEach() {
+		List<String> decoded = new ArrayList<>(messages.size());
+		for (String message : messages) {
+			decoded.add(decoder.decode(message));
+		}
+		return decoded;
+	}
+
+	@Benchmark
+	public List<String> decodeAll() {
+		return decoder.decodeAll(messages);
+	}
+
+	@Benchmark
+	public List<String> decodeAllExecutor() {
+		return decoder.decodeAll(messages, executor);
+	}
+}
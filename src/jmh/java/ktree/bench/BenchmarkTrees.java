@@ -0,0 +1,116 @@
+/**
+ * @author agent
+ * @version 10.18.2026
+ *
+ * This class makes the trees and coded messages the benchmarks run on.
+ */
+package ktree.bench;
+
+import java.util.Arrays;
+import java.util.Random;
+
+final class BenchmarkTrees {
+	/**
+	 * This class only has static methods.
+	 */
+	private BenchmarkTrees() {
+	}
+
+	/**
+	 * @param height
+	 *            the deepest level of the tree
+	 * @param k
+	 *            the branching factor of the tree
+	 * @return the number of slots in a full tree of that height
+	 */
+	static int arraySize(int height, int k) {
+		long size = 0;
+		long level = 1;
+		for (int l = 0; l <= height; l++) {
+			size += level;
+			level *= k;
+		}
+		return (int) size;
+	}
+
+	/**
+	 * @param n
+	 *            the number of slots
+	 * @return an array where every slot holds its own index
+	 */
+	static Integer[] fullArray(int n) {
+		Integer[] input = new Integer[n];
+		for (int i = 0; i < n; i++) {
+			input[i] = i;
+		}
+		return input;
+	}
+
+	/**
+	 * @param k
+	 *            the branching factor of the tree
+	 * @param slots
+	 *            the length of the array
+	 * @param density
+	 *            the chance that a slot whose parent is a node is a node. The
+	 *            first child of a node is always kept so the tree does not
+	 *            die out after a few levels.
+	 * @param random
+	 *            where the chances come from
+	 * @return an array for a valid tree where each node holds its index
+	 */
+	static Integer[] treeArray(int k, int slots, double density, Random random) {
+		Integer[] input = new Integer[slots];
+		for (int i = 0; i < input.length; i++) {
+			if (i == 0 || (input[(i - 1) / k] != null && ((i - 1) % k == 0 || random.nextDouble() < density))) {
+				input[i] = i;
+			}
+		}
+		return input;
+	}
+
+	/**
+	 * @param input
+	 *            the array of a tree
+	 * @return the indices of the slots that hold a node
+	 */
+	static int[] presentIndices(Integer[] input) {
+		return Arrays.stream(input).filter(v -> v != null).mapToInt(Integer::intValue).toArray();
+	}
+
+	/**
+	 * @param k
+	 *            the branching factor of the tree
+	 * @param depth
+	 *            the level the letters are on
+	 * @return the array of a full code tree with "_" above the given level
+	 *         and letters on it
+	 */
+	static String[] codeTreeArray(int k, int depth) {
+		String[] input = new String[arraySize(depth, k)];
+		int firstLeaf = arraySize(depth - 1, k);
+		for (int i = 0; i < input.length; i++) {
+			input[i] = i < firstLeaf ? "_" : String.valueOf((char) ('a' + (i - firstLeaf) % 26));
+		}
+		return input;
+	}
+
+	/**
+	 * @param k
+	 *            the branching factor of the code tree
+	 * @param depth
+	 *            the level the letters are on
+	 * @param letters
+	 *            the number of letters in the message
+	 * @param random
+	 *            where the digits come from
+	 * @return a random coded message for a tree made by codeTreeArray()
+	 */
+	static String codedMessage(int k, int depth, int letters, Random random) {
+		StringBuilder message = new StringBuilder(letters * depth);
+		for (int i = 0; i < letters * depth; i++) {
+			message.append(Character.forDigit(random.nextInt(k), k));
+		}
+		return message.toString();
+	}
+}
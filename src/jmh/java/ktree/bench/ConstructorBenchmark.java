@@ -0,0 +1,55 @@
+/**
+ * @author agent
+ * @version 10.18.2026
+ *
+ * This class times the KTree constructor on full binary trees from a
+ * thousand to ten million slots. The constructor makes the tree in one pass,
+ * so the time and the allocation per slot should stay flat as the tree
+ * grows: divide the time and the gc.alloc.rate.norm given by "-prof gc" by
+ * the size to get them per slot. The heap is set to its full size up front
+ * with a young generation that holds the biggest tree, so neither growing
+ * the heap nor copying a half-built tree out of the young generation is
+ * timed along with the biggest trees.
+ *
+ * Run it with "gradle jmh --args='ConstructorBenchmark -prof gc'".
+ */
+package ktree.bench;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import ktree.KTree;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = { "-Xms4g", "-Xmx4g", "-Xmn3g" })
+public class ConstructorBenchmark {
+	@Param({ "1000", "10000", "100000", "1000000", "10000000" })
+	private int size;
+
+	private Integer[] input;
+
+	@Setup
+	public void setUp() {
+		input = BenchmarkTrees.fullArray(size);
+	}
+
+	@Benchmark
+	public KTree<Integer> constructor() {
+		return new KTree<>(input, 2);
+	}
+}
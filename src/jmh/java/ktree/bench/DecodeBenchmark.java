@@ -0,0 +1,105 @@
+/**
+ * @author agent
+ * @version 10.18.2026
+ *
+ * This class times decoding a message of a hundred thousand letters with a
+ * code tree whose letters are all on one level, both walking the tree with
+ * KTree.decode() and with the tables of a KTreeDecoder, and times encoding
+ * the text again with a KTreeEncoder, as digits and packed.
+ *
+ * Run it with "gradle jmh --args='DecodeBenchmark'".
+ */
+package ktree.bench;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import ktree.KTree;
+import ktree.KTreeDecoder;
+import ktree.KTreeEncoder;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DecodeBenchmark {
+	private static final int LETTERS = 100_000;
+
+	@Param({ "2", "4" })
+	private int k;
+
+	// the level the letters are on
+	@Param({ "3", "8" })
+	private int depth;
+
+	private KTree<String> codeTree;
+	private String message;
+	private KTreeDecoder decoder;
+	private KTreeEncoder encoder;
+	private String text;
+	private byte[] packed;
+
+	@Setup
+	public void setUp() {
+		codeTree = new KTree<>(BenchmarkTrees.codeTreeArray(k, depth), k);
+		message = BenchmarkTrees.codedMessage(k, depth, LETTERS, new Random(k));
+		decoder = new KTreeDecoder(codeTree);
+		encoder = new KTreeEncoder(codeTree);
+		text = decoder.decode(message);
+		packed = encoder.encodePacked(text);
+	}
+
+	@Benchmark
+	public String decode() {
+		return KTree.decode(codeTree, message);
+	}
+
+	@Benchmark
+	public KTreeDecoder newDecoder() {
+		return new KTreeDecoder(codeTree);
+	}
+
+	@Benchmark
+	public String decoderDecode() {
+		return decoder.decode(message);
+	}
+
+	@Benchmark
+	public KTreeEncoder newEncoder() {
+		return new KTreeEncoder(codeTree);
+	}
+
+	@Benchmark
+	public String encode() {
+		return encoder.encode(text);
+	}
+
+	@Benchmark
+	public String encodeAndDecode() {
+		return decoder.decode(encoder.encode(text));
+	}
+
+	@Benchmark
+	public byte[] encodePacked() {
+		return encoder.encodePacked(text);
+	}
+
+	@Benchmark
+	public String decodePacked() {
+		return decoder.decodePacked(packed);
+	}
+}
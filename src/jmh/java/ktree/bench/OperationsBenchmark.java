@@ -0,0 +1,205 @@
+/**
+ * @author agent
+ * @version 10.18.2026
+ *
+ * This class times every public KTree operation over each combination of k,
+ * the number of slots in the array the tree is made from, and the density,
+ * the chance of a slot holding a node when its parent does. get and set
+ * work on one node a call, going through the nodes of the tree in turn;
+ * the other operations work on the whole tree.
+ *
+ * toArray() and the toString methods keep what they made until the tree
+ * changes, so each of them is timed twice: called again on an unchanged
+ * tree, and with the root changed before each call so the work is done
+ * every time.
+ *
+ * Run it with "gradle jmh --args='OperationsBenchmark'", adding "-prof gc"
+ * for the allocation of each operation or "-p k=4" and the like to pick
+ * the trees.
+ */
+package ktree.bench;
+
+import java.util.Iterator;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import ktree.KTree;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class OperationsBenchmark {
+	@Param({ "2", "4" })
+	private int k;
+
+	@Param({ "1000", "1000000" })
+	private int slots;
+
+	@Param({ "1.0", "0.6" })
+	private double density;
+
+	private Integer[] input;
+	private Integer[] changed;
+	private int[] present;
+	private KTree<Integer> tree;
+
+	// the position in present of the next node for get and set, and how
+	// many times it has gone through all of them
+	private int next;
+	private int pass;
+
+	@Setup
+	public void setUp() {
+		input = BenchmarkTrees.treeArray(k, slots, density, new Random(k * 31 + slots));
+		tree = new KTree<>(input, k);
+		present = BenchmarkTrees.presentIndices(input);
+		changed = new Integer[input.length];
+		for (int i : present) {
+			changed[i] = input[i] + 1;
+		}
+	}
+
+	/**
+	 * @return the index of the next node, starting over after the last one
+	 */
+	private int nextIndex() {
+		int i = present[next];
+		if (++next == present.length) {
+			next = 0;
+			pass++;
+		}
+		return i;
+	}
+
+	/**
+	 * Gives the root a different value each time, so anything the tree kept
+	 * from before has to be made again.
+	 *
+	 * @return the tree
+	 */
+	private KTree<Integer> changeRoot() {
+		tree.set(0, pass++ % 2 == 0 ? 1 : 0);
+		return tree;
+	}
+
+	/**
+	 * @param it
+	 *            an iterator over the tree
+	 * @param blackhole
+	 *            takes each value so the JIT cannot throw the work away
+	 */
+	private static void drain(Iterator<Integer> it, Blackhole blackhole) {
+		while (it.hasNext()) {
+			blackhole.consume(it.next());
+		}
+	}
+
+	@Benchmark
+	public KTree<Integer> constructor() {
+		return new KTree<>(input, k);
+	}
+
+	@Benchmark
+	public Integer get() {
+		return tree.get(nextIndex());
+	}
+
+	// each pass sets every node to a value other than the one it has, so
+	// every set changes the tree
+	@Benchmark
+	public boolean set() {
+		int i = nextIndex();
+		return tree.set(i, pass % 2 == 0 ? changed[i] : input[i]);
+	}
+
+	@Benchmark
+	public Object[] toArray() {
+		return tree.toArray();
+	}
+
+	@Benchmark
+	public Object[] toArrayChanged() {
+		return changeRoot().toArray();
+	}
+
+	@Benchmark
+	public String toStringTree() {
+		return tree.toString();
+	}
+
+	@Benchmark
+	public String toStringChanged() {
+		return changeRoot().toString();
+	}
+
+	@Benchmark
+	public String toStringLevelOrder() {
+		return tree.toStringLevelOrder();
+	}
+
+	@Benchmark
+	public String toStringLevelOrderChanged() {
+		return changeRoot().toStringLevelOrder();
+	}
+
+	@Benchmark
+	public String toStringPreOrder() {
+		return tree.toStringPreOrder();
+	}
+
+	@Benchmark
+	public String toStringPreOrderChanged() {
+		return changeRoot().toStringPreOrder();
+	}
+
+	@Benchmark
+	public String toStringPostOrder() {
+		return tree.toStringPostOrder();
+	}
+
+	@Benchmark
+	public String toStringPostOrderChanged() {
+		return changeRoot().toStringPostOrder();
+	}
+
+	@Benchmark
+	public void getLevelOrderIterator(Blackhole blackhole) {
+		drain(tree.getLevelOrderIterator(), blackhole);
+	}
+
+	@Benchmark
+	public void getPreOrderIterator(Blackhole blackhole) {
+		drain(tree.getPreOrderIterator(), blackhole);
+	}
+
+	@Benchmark
+	public void getPostOrderIterator(Blackhole blackhole) {
+		drain(tree.getPostOrderIterator(), blackhole);
+	}
+
+	@Benchmark
+	public Object[] subtree() {
+		return tree.subtree(1);
+	}
+
+	@Benchmark
+	public Object[] mirror() {
+		return tree.mirror();
+	}
+}
@@ -0,0 +1,105 @@
+/**
+ * @author agent
+ * @version 10.18.2026
+ *
+ * This class times gets mixed with sets from several threads at once, on a
+ * ConcurrentKTree and on a KTree guarded by synchronized blocks. Each group
+ * runs three threads doing gets and one doing sets; the sets give nodes the
+ * value they already have so the tree keeps its shape. Other mixes can be
+ * run by giving the threads of each group, for example "-tg 7,1" for seven
+ * readers and one writer or "-tg 1,1" for half of the operations being
+ * sets.
+ *
+ * Run it with "gradle jmh --args='ReadWriteMixBenchmark'".
+ */
+package ktree.bench;
+
+import java.util.Random;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import ktree.ConcurrentKTree;
+import ktree.KTree;
+
+@State(Scope.Group)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ReadWriteMixBenchmark {
+	@Param({ "4" })
+	private int k;
+
+	@Param({ "87381" })
+	private int slots;
+
+	private Integer[] input;
+	private int[] present;
+	private ConcurrentKTree<Integer> shared;
+	private KTree<Integer> plain;
+
+	@Setup
+	public void setUp() {
+		input = BenchmarkTrees.treeArray(k, slots, 1.0, new Random(1));
+		present = BenchmarkTrees.presentIndices(input);
+		shared = new ConcurrentKTree<>(input, k);
+		plain = new KTree<>(input, k);
+	}
+
+	/**
+	 * @return the index of a random node
+	 */
+	private int randomIndex() {
+		return present[ThreadLocalRandom.current().nextInt(present.length)];
+	}
+
+	@Benchmark
+	@Group("concurrent")
+	@GroupThreads(3)
+	public Integer concurrentGet() {
+		return shared.get(randomIndex());
+	}
+
+	@Benchmark
+	@Group("concurrent")
+	@GroupThreads(1)
+	public boolean concurrentSet() {
+		int i = randomIndex();
+		return shared.set(i, input[i]);
+	}
+
+	@Benchmark
+	@Group("synchronized")
+	@GroupThreads(3)
+	public Integer synchronizedGet() {
+		int i = randomIndex();
+		synchronized (plain) {
+			return plain.get(i);
+		}
+	}
+
+	@Benchmark
+	@Group("synchronized")
+	@GroupThreads(1)
+	public boolean synchronizedSet() {
+		int i = randomIndex();
+		synchronized (plain) {
+			return plain.set(i, input[i]);
+		}
+	}
+}
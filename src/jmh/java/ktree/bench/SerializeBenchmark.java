@@ -0,0 +1,95 @@
+/**
+ * @author agent
+ * @version 10.18.2026
+ *
+ * This class times saving a tree to bytes and loading it back, both with
+ * writeTo() and readFrom() and with Java serialization of the array of the
+ * tree followed by the constructor. The number of bytes each way takes is
+ * printed when the tree is made.
+ *
+ * Run it with "gradle jmh --args='SerializeBenchmark'".
+ */
+package ktree.bench;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import ktree.KTree;
+import ktree.ValueCodec;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SerializeBenchmark {
+	@Param({ "2", "4" })
+	private int k;
+
+	@Param({ "100000" })
+	private int slots;
+
+	@Param({ "1.0", "0.3", "0.05" })
+	private double density;
+
+	private KTree<Integer> tree;
+	private byte[] compact;
+	private byte[] serialized;
+
+	@Setup
+	public void setUp() throws IOException {
+		tree = new KTree<>(BenchmarkTrees.treeArray(k, slots, density, new Random(k * 31 + slots)), k);
+		compact = writeTo();
+		serialized = serialize();
+		System.out.println("nodes " + tree.size() + ", writeTo " + compact.length + " bytes, serialized array "
+				+ serialized.length + " bytes");
+	}
+
+	@Benchmark
+	public byte[] writeTo() throws IOException {
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		tree.writeTo(new DataOutputStream(bytes), ValueCodec.INTEGER);
+		return bytes.toByteArray();
+	}
+
+	@Benchmark
+	public byte[] serialize() throws IOException {
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+			out.writeObject(tree.toArray(Integer[]::new));
+		}
+		return bytes.toByteArray();
+	}
+
+	@Benchmark
+	public KTree<Integer> readFrom() throws IOException {
+		return KTree.readFrom(new DataInputStream(new ByteArrayInputStream(compact)), ValueCodec.INTEGER);
+	}
+
+	@Benchmark
+	public KTree<Integer> deserialize() throws IOException, ClassNotFoundException {
+		try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(serialized))) {
+			return new KTree<>((Integer[]) in.readObject(), k);
+		}
+	}
+}
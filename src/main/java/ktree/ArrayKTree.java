@@ -0,0 +1,356 @@
+/**
+ * @author agent
+ * @version 10.18.2026
+ *
+ * This class is a version of KTree that keeps the values of the nodes in a
+ * single array instead of linked nodes. A value is stored at the same index
+ * it has in the array given to the constructor, so the children of index i
+ * are at i*k+1 through i*k+k and finding a node is a single array access.
+ * It has the same methods as KTree and its iterators visit the nodes in the
+ * same orders.
+ */
+package ktree;
+
+import java.util.Iterator;
+import java.util.PrimitiveIterator;
+
+public class ArrayKTree<E> implements TreeIterable<E> {
+	private Object[] slots;
+	private int k;
+	private int size;
+	private int height;
+	private int[] levelCounts;
+
+	/**
+	 * This constructs the tree using an input array and a branching factor k
+	 *
+	 * @param arrayTree
+	 *            this is the array that contains the values of the nodes for
+	 *            the tree. Their position in the array indicates their
+	 *            index/position in the tree.
+	 * @param k
+	 *            is the branching factor of the tree
+	 */
+	public ArrayKTree(E[] arrayTree, int k) {
+		if (k < 2) {
+			throw new InvalidKException();
+		}
+		this.k = k;
+		this.slots = new Object[Math.max(arrayTree.length, 1)];
+		System.arraycopy(arrayTree, 0, slots, 0, arrayTree.length);
+		this.levelCounts = new int[TreeIndex.levelOf(slots.length - 1, k) + 1];
+		int level = 0;
+		long nextLevel = 1;
+		for (int i = 0; i < slots.length; i++) {
+			if (i == nextLevel) {
+				level++;
+				nextLevel = nextLevel * k + 1;
+			}
+			if (slots[i] != null) {
+				levelCounts[level]++;
+				size++;
+				height = level;
+			}
+		}
+	}
+
+	/**
+	 *
+	 * @return the branching factor of the tree, k
+	 */
+	public int getK() {
+		return this.k;
+	}
+
+	/**
+	 *
+	 * @return the size of the tree or how many nodes there are in it
+	 */
+	public int size() {
+		return this.size;
+	}
+
+	/**
+	 * @return the height of the tree or the number of edges from the root to
+	 *         the deepest leaf
+	 */
+	public int height() {
+		return this.height;
+	}
+
+	/**
+	 * @param i
+	 *            the index of a node
+	 * @return true if there is a node at the index
+	 */
+	private boolean occupied(int i) {
+		return i >= 0 && i < slots.length && slots[i] != null;
+	}
+
+	/**
+	 *
+	 * @param i
+	 *            the index of the desired node
+	 * @return the value of the node at the indicated index
+	 */
+	@SuppressWarnings("unchecked")
+	public E get(int i) {
+		if (!occupied(i)) {
+			throw new IllegalArgumentException("Node not in tree!");
+		}
+		return (E) slots[i];
+	}
+
+	/**
+	 *
+	 * @param i
+	 *            the index of the desired node
+	 * @param value
+	 *            the value to give the desired node
+	 * @return true or false based on if the node is valid or able to be set
+	 */
+	public boolean set(int i, E value) {
+		if (i < 0) {
+			return false;
+		}
+		int level = TreeIndex.levelOf(i, k);
+		if (value == null) {
+			if (!occupied(i)) {
+				return false;
+			}
+			long firstChild = (long) i * k + 1;
+			for (long child = firstChild; child < firstChild + k && child < slots.length; child++) {
+				if (slots[(int) child] != null) {
+					return false;
+				}
+			}
+			slots[i] = null;
+			size--;
+			levelCounts[level]--;
+			while (height > 0 && levelCounts[height] == 0) {
+				height--;
+			}
+			return true;
+		}
+
+		if (i > 0 && !occupied(TreeIndex.parent(i, k))) {
+			throw new InvalidTreeException();
+		}
+		if (i >= slots.length) {
+			Object[] bigger = new Object[TreeIndex.arraySize(level, k)];
+			System.arraycopy(slots, 0, bigger, 0, slots.length);
+			slots = bigger;
+		}
+		if (level >= levelCounts.length) {
+			int[] biggerCounts = new int[level + 1];
+			System.arraycopy(levelCounts, 0, biggerCounts, 0, levelCounts.length);
+			levelCounts = biggerCounts;
+		}
+		if (slots[i] == null) {
+			size++;
+			levelCounts[level]++;
+			height = Math.max(height, level);
+		}
+		slots[i] = value;
+		return true;
+	}
+
+	/**
+	 * @return the tree as an array full of objects
+	 */
+	public Object[] toArray() {
+		Object[] tempArray = new Object[TreeIndex.arraySize(height, k)];
+		System.arraycopy(slots, 0, tempArray, 0, Math.min(slots.length, tempArray.length));
+		return tempArray;
+	}
+
+	/**
+	 * @return the tree as a String
+	 */
+	public String toString() {
+		if (slots[0] == null) {
+			return null;
+		}
+		int end = TreeIndex.arraySize(height, k);
+		StringBuilder builder = new StringBuilder();
+		long rightMost = 0;
+		for (int i = 0; i < end; i++) {
+			if (i > 0) {
+				builder.append(i == rightMost + 1 ? '\n' : ' ');
+				if (i == rightMost + 1) {
+					rightMost = rightMost * k + k;
+				}
+			}
+			builder.append(i < slots.length ? slots[i] : null);
+		}
+		return builder.toString();
+	}
+
+	/**
+	 * @return an iterator that traverses the tree in level order
+	 */
+	public Iterator<E> getLevelOrderIterator() {
+		return values(TreeIndex.levelOrder(this::occupied, () -> slots.length));
+	}
+
+	/**
+	 * @return an iterator that traverses the tree in pre-order
+	 */
+	public Iterator<E> getPreOrderIterator() {
+		return values(TreeIndex.preOrder(this::occupied, 0, k));
+	}
+
+	/**
+	 * @return an iterator that traverses the tree in post-order
+	 */
+	public Iterator<E> getPostOrderIterator() {
+		return values(TreeIndex.postOrder(this::occupied, 0, k));
+	}
+
+	/**
+	 * @param indices
+	 *            an iterator over the indices of nodes
+	 * @return an iterator over the values at those indices
+	 */
+	private Iterator<E> values(PrimitiveIterator.OfInt indices) {
+		return new Iterator<E>() {
+			/**
+			 * @return true or false based on if there is another value
+			 */
+			public boolean hasNext() {
+				return indices.hasNext();
+			}
+
+			/**
+			 * @return the value of the next node in the tree
+			 */
+			@SuppressWarnings("unchecked")
+			public E next() {
+				return (E) slots[indices.nextInt()];
+			}
+		};
+	}
+
+	/**
+	 * @return an String representation of the tree traversed in level order
+	 */
+	public String toStringLevelOrder() {
+		return join(this.getLevelOrderIterator());
+	}
+
+	/**
+	 * @return an String representation of the tree traversed in pre-order
+	 */
+	public String toStringPreOrder() {
+		return join(this.getPreOrderIterator());
+	}
+
+	/**
+	 * @return an String representation of the tree traversed in post-order
+	 */
+	public String toStringPostOrder() {
+		return join(this.getPostOrderIterator());
+	}
+
+	/**
+	 * @param it
+	 *            an iterator over the values of the tree
+	 * @return the values separated by spaces
+	 */
+	private String join(Iterator<E> it) {
+		StringBuilder builder = new StringBuilder();
+		while (it.hasNext()) {
+			if (builder.length() > 0) {
+				builder.append(' ');
+			}
+			builder.append(it.next());
+		}
+		return builder.toString();
+	}
+
+	/**
+	 *
+	 * @param tree
+	 *            the tree containing the letters in the message
+	 * @param codedMessage
+	 *            the "instructions" for getting the letters of the message
+	 * @return a String of the decoded messaged
+	 */
+	public static String decode(ArrayKTree<String> tree, String codedMessage) {
+		StringBuilder decoded = new StringBuilder();
+		int current = 0;
+		for (int i = 0; i < codedMessage.length(); i++) {
+			int digit = Character.getNumericValue(codedMessage.charAt(i));
+			long child = (long) current * tree.k + 1 + digit;
+			if (digit < 0 || digit >= tree.k || child > Integer.MAX_VALUE) {
+				throw new IllegalArgumentException("Node not in tree!");
+			}
+			current = (int) child;
+			String code = tree.get(current);
+			if (!code.equals("_")) {
+				decoded.append(code);
+				current = 0;
+			}
+		}
+		return decoded.toString();
+	}
+
+	/**
+	 *
+	 * @param i
+	 *            is the index of the node that should be the root node in the
+	 *            new subtree
+	 * @return array of elements in the subtree
+	 */
+	@SuppressWarnings("unchecked")
+	public E[] subtree(int i) {
+		if (!occupied(i)) {
+			throw new IllegalArgumentException("Node not in tree!");
+		}
+		// find the deepest level of the subtree that still has a node
+		int levels = 0;
+		long first = i;
+		long width = 1;
+		int lastLevel = 0;
+		while (first < slots.length) {
+			for (long j = first; j < first + width && j < slots.length; j++) {
+				if (slots[(int) j] != null) {
+					lastLevel = levels;
+					break;
+				}
+			}
+			levels++;
+			first = first * k + 1;
+			width = width * k;
+		}
+
+		E[] tempArray = (E[]) new Object[TreeIndex.arraySize(lastLevel, k)];
+		int newIndex = 0;
+		first = i;
+		width = 1;
+		for (int level = 0; level <= lastLevel; level++) {
+			for (long j = first; j < first + width; j++) {
+				if (j < slots.length) {
+					tempArray[newIndex] = (E) slots[(int) j];
+				}
+				newIndex++;
+			}
+			first = first * k + 1;
+			width = width * k;
+		}
+		return tempArray;
+	}
+
+	/**
+	 * @return array of the elements of the tree with the children of every
+	 *         node in reverse order
+	 */
+	@SuppressWarnings("unchecked")
+	public E[] mirror() {
+		E[] tempArray = (E[]) new Object[TreeIndex.arraySize(height, k)];
+		for (int i = 0; i < tempArray.length && i < slots.length; i++) {
+			tempArray[TreeIndex.mirrorOf(i, k)] = (E) slots[i];
+		}
+		return tempArray;
+	}
+}
@@ -0,0 +1,287 @@
+/**
+ * @author agent
+ * @version 10.18.2026
+ *
+ * This class is a KTree that many threads can use at once. get(), size()
+ * and height() are done optimistically with a StampedLock: the read runs
+ * without taking the lock and is only run again under the read lock if a
+ * write happened while it was running, so they never wait unless they
+ * actually overlap with a writer. Everything that walks the tree, such as
+ * the traversals, toArray(), the toString methods and decode(), takes the
+ * read lock instead. A walk that overlapped a write could follow links the
+ * writer was changing round and round and never finish, so it cannot be
+ * run first and checked afterwards. Readers still never wait on each other.
+ * Writes take the lock for themselves, since a write can change the size,
+ * the height and the links of nodes all over the tree.
+ *
+ * The iterators work on a copy of the values taken when the iterator is
+ * made, so a write after that is not seen by the iterator and cannot break
+ * it.
+ */
+package ktree;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.locks.StampedLock;
+import java.util.function.Supplier;
+
+public class ConcurrentKTree<E> implements TreeIterable<E> {
+	private final KTree<E> tree;
+	private final StampedLock lock = new StampedLock();
+
+	/**
+	 * This constructs the tree using an input array and a branching factor k
+	 *
+	 * @param arrayTree
+	 *            this is the array that contains the values of the nodes for
+	 *            the tree. Their position in the array indicates their
+	 *            index/position in the tree.
+	 * @param k
+	 *            is the branching factor of the tree
+	 */
+	public ConcurrentKTree(E[] arrayTree, int k) {
+		this.tree = new KTree<>(arrayTree, k);
+	}
+
+	/**
+	 * Runs a read without the lock and checks afterwards that no write
+	 * happened while it ran. If one did the read is run again under the read
+	 * lock. An exception thrown by a read that overlapped a write is ignored
+	 * since the read saw the tree half changed. Only reads that look at a
+	 * bounded number of fields may be run this way.
+	 *
+	 * @param read
+	 *            the read to run
+	 * @return what the read returned
+	 */
+	private <T> T optimisticRead(Supplier<T> read) {
+		long stamp = lock.tryOptimisticRead();
+		if (stamp != 0) {
+			try {
+				T result = read.get();
+				if (lock.validate(stamp)) {
+					return result;
+				}
+			} catch (RuntimeException e) {
+				if (lock.validate(stamp)) {
+					throw e;
+				}
+			}
+		}
+		return read(read);
+	}
+
+	/**
+	 * Runs a read while holding the read lock, which other readers share.
+	 *
+	 * @param read
+	 *            the read to run
+	 * @return what the read returned
+	 */
+	private <T> T read(Supplier<T> read) {
+		long stamp = lock.readLock();
+		try {
+			return read.get();
+		} finally {
+			lock.unlockRead(stamp);
+		}
+	}
+
+	/**
+	 * Runs a write while holding the write lock.
+	 *
+	 * @param write
+	 *            the write to run
+	 * @return what the write returned
+	 */
+	private <T> T write(Supplier<T> write) {
+		long stamp = lock.writeLock();
+		try {
+			return write.get();
+		} finally {
+			lock.unlockWrite(stamp);
+		}
+	}
+
+	/**
+	 *
+	 * @return the branching factor of the tree, k
+	 */
+	public int getK() {
+		return tree.getK();
+	}
+
+	/**
+	 *
+	 * @return the size of the tree or how many nodes there are in it
+	 */
+	public int size() {
+		return optimisticRead(tree::size);
+	}
+
+	/**
+	 * @return the height of the tree or the number of edges from the root to
+	 *         the deepest leaf
+	 */
+	public int height() {
+		return optimisticRead(tree::height);
+	}
+
+	/**
+	 *
+	 * @param i
+	 *            the index of the desired node
+	 * @return the value of the node at the indicated index
+	 */
+	public E get(int i) {
+		return optimisticRead(() -> tree.get(i));
+	}
+
+	/**
+	 *
+	 * @param i
+	 *            the index of the desired node
+	 * @param value
+	 *            the value to give the desired node
+	 * @return true or false based on if the node is valid or able to be set
+	 */
+	public boolean set(int i, E value) {
+		return write(() -> tree.set(i, value));
+	}
+
+	/**
+	 * Sets many nodes under one hold of the write lock, so readers see either
+	 * none or all of the changes.
+	 *
+	 * @param indices
+	 *            the indices of the nodes to set
+	 * @param values
+	 *            the value to give the node at the same position in indices
+	 * @return true or false based on if every node was valid or able to be
+	 *         set
+	 */
+	public boolean setAll(int[] indices, E[] values) {
+		return write(() -> tree.setAll(indices, values));
+	}
+
+	/**
+	 * @return the tree as an array full of objects
+	 */
+	public Object[] toArray() {
+		return read(tree::toArray);
+	}
+
+	/**
+	 * @return the tree as a String
+	 */
+	public String toString() {
+		return read(tree::toString);
+	}
+
+	/**
+	 * @return an iterator that traverses the tree in level order
+	 */
+	public Iterator<E> getLevelOrderIterator() {
+		return snapshot(tree::getLevelOrderIterator);
+	}
+
+	/**
+	 * @return an iterator that traverses the tree in pre-order
+	 */
+	public Iterator<E> getPreOrderIterator() {
+		return snapshot(tree::getPreOrderIterator);
+	}
+
+	/**
+	 * @return an iterator that traverses the tree in post-order
+	 */
+	public Iterator<E> getPostOrderIterator() {
+		return snapshot(tree::getPostOrderIterator);
+	}
+
+	/**
+	 * @param traversal
+	 *            makes an iterator over the tree
+	 * @return an iterator over a copy of the values the traversal visits
+	 */
+	private Iterator<E> snapshot(Supplier<Iterator<E>> traversal) {
+		List<E> values = read(() -> {
+			List<E> copy = new ArrayList<>(tree.size());
+			traversal.get().forEachRemaining(copy::add);
+			return copy;
+		});
+		return new Iterator<E>() {
+			int next = 0;
+
+			/**
+			 * @return true or false based on if there is another value
+			 */
+			public boolean hasNext() {
+				return next < values.size();
+			}
+
+			/**
+			 * @return the value of the next node in the tree
+			 */
+			public E next() {
+				if (!hasNext()) {
+					throw new NullPointerException("No more items!");
+				}
+				return values.get(next++);
+			}
+		};
+	}
+
+	/**
+	 * @return an String representation of the tree traversed in level order
+	 */
+	public String toStringLevelOrder() {
+		return read(tree::toStringLevelOrder);
+	}
+
+	/**
+	 * @return an String representation of the tree traversed in pre-order
+	 */
+	public String toStringPreOrder() {
+		return read(tree::toStringPreOrder);
+	}
+
+	/**
+	 * @return an String representation of the tree traversed in post-order
+	 */
+	public String toStringPostOrder() {
+		return read(tree::toStringPostOrder);
+	}
+
+	/**
+	 *
+	 * @param tree
+	 *            the tree containing the letters in the message
+	 * @param codedMessage
+	 *            the "instructions" for getting the letters of the message
+	 * @return a String of the decoded messaged
+	 */
+	public static String decode(ConcurrentKTree<String> tree, String codedMessage) {
+		return tree.read(() -> KTree.decode(tree.tree, codedMessage));
+	}
+
+	/**
+	 *
+	 * @param i
+	 *            is the index of the node that should be the root node in the
+	 *            new subtree
+	 * @return array of elements in the subtree
+	 */
+	public E[] subtree(int i) {
+		return read(() -> tree.subtree(i));
+	}
+
+	/**
+	 * @return array of the elements of the tree with the children of every
+	 *         node in reverse order
+	 */
+	public E[] mirror() {
+		return read(tree::mirror);
+	}
+}
@@ -0,0 +1,123 @@
+/**
+ * @author agent
+ * @version 10.18.2026
+ *
+ * This class is a version of KTree for double values. The values are kept
+ * unboxed in a double[] indexed like the array given to the KTree constructor,
+ * so getDouble, setDouble, the iterators and toArray() never box a value.
+ */
+package ktree;
+
+import java.util.PrimitiveIterator;
+
+public class DoubleKTree extends PrimitiveKTree<double[]> implements TreeIterable<Double> {
+	/**
+	 * This constructs the tree using an input array and a branching factor k
+	 *
+	 * @param arrayTree
+	 *            this is the array that contains the values of the nodes for
+	 *            the tree. Their position in the array indicates their
+	 *            index/position in the tree and null means there is no node.
+	 * @param k
+	 *            is the branching factor of the tree
+	 */
+	public DoubleKTree(Double[] arrayTree, int k) {
+		super(arrayTree.length, k);
+		addAll(arrayTree);
+	}
+
+	/**
+	 * This constructs a tree in which every slot of the input array is a node
+	 *
+	 * @param arrayTree
+	 *            this is the array that contains the values of the nodes for
+	 *            the tree. Their position in the array indicates their
+	 *            index/position in the tree.
+	 * @param k
+	 *            is the branching factor of the tree
+	 */
+	public DoubleKTree(double[] arrayTree, int k) {
+		super(arrayTree.length, k);
+		addAll(arrayTree, arrayTree.length);
+	}
+
+	/**
+	 * @param length
+	 *            the number of slots
+	 * @return a new value array full of 0
+	 */
+	double[] newArray(int length) {
+		return new double[length];
+	}
+
+	/**
+	 *
+	 * @param i
+	 *            the index of the desired node
+	 * @return the value of the node at the indicated index
+	 */
+	public double getDouble(int i) {
+		checkNode(i);
+		return values[i];
+	}
+
+	/**
+	 *
+	 * @param i
+	 *            the index of the desired node
+	 * @param value
+	 *            the value to give the desired node
+	 * @return true or false based on if the node is valid or able to be set
+	 */
+	public boolean setDouble(int i, double value) {
+		if (!prepareSet(i)) {
+			return false;
+		}
+		values[i] = value;
+		return true;
+	}
+
+	/**
+	 * @return an iterator that traverses the tree in level order
+	 */
+	public PrimitiveIterator.OfDouble getLevelOrderIterator() {
+		return values(levelOrderIndices());
+	}
+
+	/**
+	 * @return an iterator that traverses the tree in pre-order
+	 */
+	public PrimitiveIterator.OfDouble getPreOrderIterator() {
+		return values(preOrderIndices());
+	}
+
+	/**
+	 * @return an iterator that traverses the tree in post-order
+	 */
+	public PrimitiveIterator.OfDouble getPostOrderIterator() {
+		return values(postOrderIndices());
+	}
+
+	/**
+	 * @param indices
+	 *            an iterator over the indices of nodes
+	 * @return an iterator over the values at those indices
+	 */
+	private PrimitiveIterator.OfDouble values(PrimitiveIterator.OfInt indices) {
+		return new PrimitiveIterator.OfDouble() {
+			/**
+			 * @return true or false based on if there is another value
+			 */
+			public boolean hasNext() {
+				return indices.hasNext();
+			}
+
+			/**
+			 * @return the value of the next node in the tree
+			 */
+			public double nextDouble() {
+				return values[indices.nextInt()];
+			}
+		};
+	}
+}
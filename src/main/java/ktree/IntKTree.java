@@ -0,0 +1,123 @@
+/**
+ * @author agent
+ * @version 10.18.2026
+ *
+ * This class is a version of KTree for int values. The values are kept
+ * unboxed in an int[] indexed like the array given to the KTree constructor,
+ * so getInt, setInt, the iterators and toArray() never box a value.
+ */
+package ktree;
+
+import java.util.PrimitiveIterator;
+
+public class IntKTree extends PrimitiveKTree<int[]> implements TreeIterable<Integer> {
+	/**
+	 * This constructs the tree using an input array and a branching factor k
+	 *
+	 * @param arrayTree
+	 *            this is the array that contains the values of the nodes for
+	 *            the tree. Their position in the array indicates their
+	 *            index/position in the tree and null means there is no node.
+	 * @param k
+	 *            is the branching factor of the tree
+	 */
+	public IntKTree(Integer[] arrayTree, int k) {
+		super(arrayTree.length, k);
+		addAll(arrayTree);
+	}
+
+	/**
+	 * This constructs a tree in which every slot of the input array is a node
+	 *
+	 * @param arrayTree
+	 *            this is the array that contains the values of the nodes for
+	 *            the tree. Their position in the array indicates their
+	 *            index/position in the tree.
+	 * @param k
+	 *            is the branching factor of the tree
+	 */
+	public IntKTree(int[] arrayTree, int k) {
+		super(arrayTree.length, k);
+		addAll(arrayTree, arrayTree.length);
+	}
+
+	/**
+	 * @param length
+	 *            the number of slots
+	 * @return a new value array full of 0
+	 */
+	int[] newArray(int length) {
+		return new int[length];
+	}
+
+	/**
+	 *
+	 * @param i
+	 *            the index of the desired node
+	 * @return the value of the node at the indicated index
+	 */
+	public int getInt(int i) {
+		checkNode(i);
+		return values[i];
+	}
+
+	/**
+	 *
+	 * @param i
+	 *            the index of the desired node
+	 * @param value
+	 *            the value to give the desired node
+	 * @return true or false based on if the node is valid or able to be set
+	 */
+	public boolean setInt(int i, int value) {
+		if (!prepareSet(i)) {
+			return false;
+		}
+		values[i] = value;
+		return true;
+	}
+
+	/**
+	 * @return an iterator that traverses the tree in level order
+	 */
+	public PrimitiveIterator.OfInt getLevelOrderIterator() {
+		return values(levelOrderIndices());
+	}
+
+	/**
+	 * @return an iterator that traverses the tree in pre-order
+	 */
+	public PrimitiveIterator.OfInt getPreOrderIterator() {
+		return values(preOrderIndices());
+	}
+
+	/**
+	 * @return an iterator that traverses the tree in post-order
+	 */
+	public PrimitiveIterator.OfInt getPostOrderIterator() {
+		return values(postOrderIndices());
+	}
+
+	/**
+	 * @param indices
+	 *            an iterator over the indices of nodes
+	 * @return an iterator over the values at those indices
+	 */
+	private PrimitiveIterator.OfInt values(PrimitiveIterator.OfInt indices) {
+		return new PrimitiveIterator.OfInt() {
+			/**
+			 * @return true or false based on if there is another value
+			 */
+			public boolean hasNext() {
+				return indices.hasNext();
+			}
+
+			/**
+			 * @return the value of the next node in the tree
+			 */
+			public int nextInt() {
+				return values[indices.nextInt()];
+			}
+		};
+	}
+}
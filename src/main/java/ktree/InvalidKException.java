@@ -3,6 +3,8 @@
  * @version 11.4.2018
  * This exception is thrown if the k or the branching factor of the tree is less than 2!
  */
+package ktree;
+
 public class InvalidKException extends InvalidTreeException {
 	
 }
\ No newline at end of file
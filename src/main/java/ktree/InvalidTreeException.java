@@ -3,6 +3,8 @@
  * @version 11.4.2018
  * This exception is thrown if the tree becomes invalid with an attempt at setting a node to a value.
  */
+package ktree;
+
 public class InvalidTreeException extends RuntimeException {
 
 }
\ No newline at end of file
@@ -0,0 +1,2995 @@
+
+/**
+ * @author Helena Gray
+ * @version 11.4.2018
+ * 
+ * This class creates a tree of nodes and contains various methods
+ * that allow for a variety of things including tree traversal,
+ * adding, removing, or changing nodes, changing the tree to an array,
+ * or printing the array to a string. It also includes a decode method
+ * that can generate a secret message by traversing a tree whose
+ * leave nodes contain letters.
+ * */
+
+package ktree;
+
+import java.util.Iterator;
+import java.util.Scanner;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.function.IntFunction;
+
+public class KTree<E> implements TreeIterable<E> {
+	// the start of a stream written by writeTo(DataOutput, ValueCodec) and
+	// the version of its format
+	private static final int MAGIC = 0x4B545253;
+	private static final int VERSION = 1;
+
+	// the most nodes readFrom() makes room for before it has read them
+	private static final int READ_CHUNK = 4096;
+
+	private Node<E> root;
+	private int k;
+	private int size;
+	private int height;
+	private int[] levelCounts;
+
+	// the node object at each index, so a node is found without walking the
+	// tree. Indices past the end of the array, which only deep sparse trees
+	// have, are kept in the map instead.
+	private Node<E>[] directory;
+	private HashMap<Integer, Node<E>> farDirectory;
+	private int nodeCount;
+
+	// counts the changes made to the tree, bumped once a change is done, so
+	// a cached copy made at an older count is out of date
+	private volatile int modCount;
+
+	// the last array and Strings made from the tree, kept until it changes
+	private volatile Cached<Object[]> cachedArray;
+	private volatile Cached<String> cachedString;
+	private volatile Cached<String> cachedLevelOrder;
+	private volatile Cached<String> cachedPreOrder;
+	private volatile Cached<String> cachedPostOrder;
+
+	/**
+	 * Something worked out from the tree, with the change count it was made
+	 * at.
+	 */
+	private static final class Cached<T> {
+		private final int version;
+		private final T value;
+
+		/**
+		 * @param version
+		 *            the change count of the tree when the value was made
+		 * @param value
+		 *            the value made from the tree
+		 */
+		Cached(int version, T value) {
+			this.version = version;
+			this.value = value;
+		}
+	}
+
+	/**
+	 * Writes the tree out in some form.
+	 */
+	private interface Renderer {
+		void render(Appendable out) throws IOException;
+	}
+
+	/**
+	 * This class defines a node that makes up the KTree.
+	 */
+	private static class Node<E> {
+		private E code;
+		private int index;
+		private Node<E> next;
+		private Node<E> leftChild;
+		private Node<E> rightSib;
+
+		/**
+		 * @param value
+		 *            is the value of the code of the node
+		 * @param valueIndex
+		 *            is the index of the node in the tree
+		 */
+		public Node(E value, int valueIndex) {
+			this.code = value;
+			this.index = valueIndex;
+		}
+
+		/**
+		 * @return the code of the node or its value
+		 */
+		public E getCode() {
+			return code;
+		}
+
+		/**
+		 * @return the index of the node
+		 */
+		public int getIndex() {
+			return index;
+		}
+
+		/**
+		 * @param value
+		 *            the new value of the node
+		 */
+		public void setCode(E value) {
+			this.code = value;
+		}
+
+		/**
+		 * @param value
+		 *            the new index of the node
+		 */
+		public void setIndex(int value) {
+			this.index = value;
+		}
+
+		/**
+		 * 
+		 * @return the left child node of the current node
+		 */
+		public Node<E> getChild() {
+			return this.leftChild;
+		}
+
+		/**
+		 * @return the sibling node of the current node
+		 */
+		public Node<E> getSib() {
+			return this.rightSib;
+		}
+
+		/**
+		 * @return the next node of the current node. The next node is used in
+		 *         the context of stacks and queues, rather than trees.
+		 */
+		public Node<E> getNext() {
+			return this.next;
+		}
+
+		/**
+		 * @param child
+		 *            the desired child node of the current node
+		 */
+		public void setChild(Node<E> child) {
+			this.leftChild = child;
+		}
+
+		/**
+		 * 
+		 * @param sib
+		 *            the desired sibling node of the current node
+		 */
+		public void setSib(Node<E> sib) {
+			this.rightSib = sib;
+		}
+
+		public void setNext(Node<E> next) {
+			this.next = next;
+		}
+
+		/**
+		 * @return a string of the code value of the node
+		 */
+		public String toString() {
+			String code = "";
+			if (this.getCode() instanceof Integer) {
+				code = this.getCode().toString();
+			} else {
+				code = String.valueOf(this.getCode());
+			}
+			return code;
+		}
+	}
+
+	/**
+	 * This constructs the KTree using an input array and a branching factor k
+	 * 
+	 * @param arrayTree
+	 *            this is the array that contains the values of the nodes for
+	 *            the tree. Their position in the array indicates their
+	 *            index/position in the tree.
+	 * @param k
+	 *            is the branching factor of the tree
+	 */
+	public KTree(E[] arrayTree, int k) {
+		// populate tree
+		this.k = k;
+		if (k < 2) {
+			throw new InvalidKException();
+		}
+		this.root = new Node<E>(arrayTree[0], 0);
+		this.directory = newNodes(Math.max(arrayTree.length, 1));
+		register(root);
+		this.levelCounts = new int[TreeIndex.levelOf(Math.max(arrayTree.length - 1, 0), k) + 1];
+		this.height = 0;
+		this.size = 0;
+		if (arrayTree[0] != null) {
+			addToLevel(0);
+		}
+
+		// build the tree in one pass in level order. Nodes wait in the queue
+		// until it is their turn to be a parent, so the parent of the next
+		// first child is always at the front.
+		ArrayDeque<Node<E>> parents = new ArrayDeque<>();
+		parents.add(root);
+		Node<E> previous = root;
+		int level = 0;
+		long nextLevel = 1;
+		for (int arrIndex = 1; arrIndex < arrayTree.length; arrIndex++) {
+			Node<E> node = new Node<E>(arrayTree[arrIndex], arrIndex);
+			register(node);
+			if ((arrIndex - 1) % k == 0) {
+				parents.poll().leftChild = node;
+			} else {
+				previous.rightSib = node;
+			}
+			parents.add(node);
+			previous = node;
+
+			if (arrIndex == nextLevel) {
+				level++;
+				nextLevel = nextLevel * k + 1;
+			}
+			if (arrayTree[arrIndex] != null) {
+				addToLevel(level);
+			}
+		}
+	}
+
+	/**
+	 * Counts a node that was added to the tree and raises the height if the
+	 * node is on a new deepest level.
+	 * 
+	 * @param level
+	 *            the level of the added node
+	 */
+	private void addToLevel(int level) {
+		if (level >= levelCounts.length) {
+			int[] biggerCounts = new int[Math.max(level + 1, levelCounts.length * 2)];
+			System.arraycopy(levelCounts, 0, biggerCounts, 0, levelCounts.length);
+			levelCounts = biggerCounts;
+		}
+		levelCounts[level]++;
+		size++;
+		height = Math.max(height, level);
+	}
+
+	/**
+	 * Uncounts a node that was removed from the tree and lowers the height if
+	 * its level has no more nodes.
+	 * 
+	 * @param level
+	 *            the level of the removed node
+	 */
+	private void removeFromLevel(int level) {
+		levelCounts[level]--;
+		size--;
+		while (height > 0 && levelCounts[height] == 0) {
+			height--;
+		}
+	}
+
+	/**
+	 * 
+	 * @return the branching factor of the tree, k
+	 */
+	public int getK() {
+		return this.k;
+	}
+
+	/**
+	 * 
+	 * @return the size of the tree or how many nodes there are in it
+	 */
+	public int size() {
+		return this.size;
+	}
+
+	/**
+	 * @return the height of the tree or the number of edges from the root to
+	 *         the deepest leaf
+	 */
+	public int height() {
+		return this.height;
+
+	}
+
+	/**
+	 * 
+	 * @param i
+	 *            the index of the desired node
+	 * @return the value of the node at the indicated index
+	 */
+
+	public E get(int i) {
+		Node<E> current = findNode(i);
+		if (current == null || current.getCode() == null || current.getCode() == "null") {
+			throw new IllegalArgumentException("Node not in tree!");
+		}
+		return current.getCode();
+	}
+
+	/**
+	 * 
+	 * @param i
+	 *            the index of the desired node
+	 * @param value
+	 *            the value to give the desired node
+	 * @return true or false based on if the node is valid or able to be set
+	 */
+	public boolean set(int i, E value) {
+		if (i < 0) {
+			return false;
+		}
+		Node<E> current;
+		if (value == null) {
+			current = findNode(i);
+			if (current == null || current.getCode() == null) {
+				return false;
+			}
+
+			// check for children in loop
+			Node<E> childrenCheck = current.getChild();
+			while (childrenCheck != null) {
+				if (childrenCheck.getCode() != null) {
+					return false;
+				}
+				childrenCheck = childrenCheck.getSib();
+			}
+			removeFromLevel(TreeIndex.levelOf(i, k));
+		} else {
+			if (i == 0) {
+				current = root;
+			} else {
+				Node<E> parent = findNode(TreeIndex.parent(i, k));
+				if (parent == null || parent.getCode() == null) {
+					throw new InvalidTreeException();
+				}
+				current = childAt(parent, i);
+			}
+
+			if (current.getCode() == null || current.getCode() == (E) "null") {
+				addToLevel(TreeIndex.levelOf(i, k));
+			}
+		}
+
+		if (current.getCode() != value) {
+			current.setCode(value);
+			modCount++;
+		}
+		return true;
+	}
+
+	/**
+	 * Sets many nodes at once. The updates are checked together against the
+	 * tree they would leave behind, so a node and its children can be added
+	 * or removed in the same batch in any order. If any update would break
+	 * the tree nothing is changed. The updates are then applied in index
+	 * order, each finding its node in the directory.
+	 * 
+	 * @param indices
+	 *            the indices of the nodes to set. If an index is given more
+	 *            than once the last value given for it is used.
+	 * @param values
+	 *            the value to give each of the nodes, null to remove it
+	 * @return false if an index is negative or a node to remove is not in the
+	 *         tree or would leave its children behind, true once every update
+	 *         is applied
+	 */
+	@SuppressWarnings("unchecked")
+	public boolean setAll(int[] indices, E[] values) {
+		if (indices.length != values.length) {
+			throw new IllegalArgumentException("Every index needs a value!");
+		}
+
+		// sort the updates by index, keeping the last value given for an index
+		long[] order = new long[indices.length];
+		for (int u = 0; u < indices.length; u++) {
+			if (indices[u] < 0) {
+				return false;
+			}
+			order[u] = ((long) indices[u] << 32) | u;
+		}
+		Arrays.sort(order);
+		int count = 0;
+		int[] sortedIndices = new int[order.length];
+		Object[] sortedValues = new Object[order.length];
+		for (int u = 0; u < order.length; u++) {
+			if (u + 1 < order.length && (order[u + 1] >>> 32) == (order[u] >>> 32)) {
+				continue;
+			}
+			sortedIndices[count] = (int) (order[u] >>> 32);
+			sortedValues[count] = values[(int) order[u]];
+			count++;
+		}
+
+		if (count == 0) {
+			return true;
+		}
+
+		// check the batch against the tree it would leave behind
+		for (int u = 0; u < count; u++) {
+			int i = sortedIndices[u];
+			if (sortedValues[u] != null) {
+				if (i > 0 && valueAfter(TreeIndex.parent(i, k), sortedIndices, sortedValues, count) == null) {
+					throw new InvalidTreeException();
+				}
+			} else {
+				Node<E> current = findNode(i);
+				if (current == null || current.getCode() == null) {
+					return false;
+				}
+				long firstChild = (long) i * k + 1;
+				for (long child = firstChild; child < firstChild + k && child <= Integer.MAX_VALUE; child++) {
+					if (valueAfter((int) child, sortedIndices, sortedValues, count) != null) {
+						return false;
+					}
+				}
+			}
+		}
+
+		// apply the batch in index order, which puts every parent before its
+		// children
+		boolean changed = false;
+		for (int u = 0; u < count; u++) {
+			int i = sortedIndices[u];
+			int level = TreeIndex.levelOf(i, k);
+			Node<E> current = i == 0 ? root : childAt(findNode(TreeIndex.parent(i, k)), i);
+			E value = (E) sortedValues[u];
+			if (current.getCode() == null && value != null) {
+				countAtLevel(level, 1);
+			} else if (current.getCode() != null && value == null) {
+				countAtLevel(level, -1);
+			}
+			changed |= current.getCode() != value;
+			current.setCode(value);
+		}
+		if (changed) {
+			modCount++;
+		}
+
+		// settle the height once for the whole batch
+		height = 0;
+		for (int level = levelCounts.length - 1; level > 0; level--) {
+			if (levelCounts[level] > 0) {
+				height = level;
+				break;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * @param i
+	 *            the index of a node
+	 * @param sortedIndices
+	 *            the sorted indices of a batch of updates
+	 * @param sortedValues
+	 *            the values of the batch of updates
+	 * @param count
+	 *            the number of updates in the batch
+	 * @return the value the node would have after the batch is applied
+	 */
+	private Object valueAfter(int i, int[] sortedIndices, Object[] sortedValues, int count) {
+		int u = Arrays.binarySearch(sortedIndices, 0, count, i);
+		if (u >= 0) {
+			return sortedValues[u];
+		}
+		Node<E> current = findNode(i);
+		return current == null ? null : current.getCode();
+	}
+
+	/**
+	 * Changes the number of nodes on a level and the size of the tree without
+	 * touching the height.
+	 * 
+	 * @param level
+	 *            the level of the node that was added or removed
+	 * @param change
+	 *            1 for an added node or -1 for a removed one
+	 */
+	private void countAtLevel(int level, int change) {
+		if (level >= levelCounts.length) {
+			int[] biggerCounts = new int[Math.max(level + 1, levelCounts.length * 2)];
+			System.arraycopy(levelCounts, 0, biggerCounts, 0, levelCounts.length);
+			levelCounts = biggerCounts;
+		}
+		levelCounts[level] += change;
+		size += change;
+	}
+
+	/**
+	 * @param i
+	 *            the index of the desired node
+	 * @return the node at the index, or null if the tree has no node object
+	 *         there
+	 */
+	private Node<E> findNode(int i) {
+		if (i < 0) {
+			return null;
+		}
+		if (i < directory.length) {
+			return directory[i];
+		}
+		return farDirectory == null ? null : farDirectory.get(i);
+	}
+
+	/**
+	 * @param length
+	 *            the number of slots
+	 * @return an array of empty node slots
+	 */
+	@SuppressWarnings("unchecked")
+	private static <E> Node<E>[] newNodes(int length) {
+		return (Node<E>[]) new Node<?>[length];
+	}
+
+	/**
+	 * Adds a new node object to the directory. The array grows to hold it
+	 * unless that would make it much bigger than the number of nodes, in
+	 * which case the node goes in the map.
+	 * 
+	 * @param node
+	 *            the node to add
+	 */
+	private void register(Node<E> node) {
+		int i = node.getIndex();
+		nodeCount++;
+		if (i >= directory.length) {
+			long wanted = Math.max(i + 1L, directory.length * 2L);
+			if (wanted <= Math.max(1024L, nodeCount * 8L)) {
+				Node<E>[] bigger = newNodes((int) wanted);
+				System.arraycopy(directory, 0, bigger, 0, directory.length);
+				directory = bigger;
+				if (farDirectory != null) {
+					farDirectory.values().removeIf(far -> {
+						if (far.getIndex() < directory.length) {
+							directory[far.getIndex()] = far;
+							return true;
+						}
+						return false;
+					});
+				}
+			}
+		}
+		if (i < directory.length) {
+			directory[i] = node;
+		} else {
+			if (farDirectory == null) {
+				farDirectory = new HashMap<>();
+			}
+			farDirectory.put(i, node);
+		}
+	}
+
+	/**
+	 * Finds a child of a node, adding empty nodes for it and any missing
+	 * children before it.
+	 * 
+	 * @param parent
+	 *            the parent node
+	 * @param childIndex
+	 *            the index of the wanted child
+	 * @return the child node at the index
+	 */
+	private Node<E> childAt(Node<E> parent, int childIndex) {
+		Node<E> child = findNode(childIndex);
+		if (child != null) {
+			return child;
+		}
+		// start from the last child the parent already has before this one
+		int firstChild = parent.getIndex() * k + 1;
+		Node<E> current = null;
+		for (int sib = childIndex - 1; sib >= firstChild && current == null; sib--) {
+			current = findNode(sib);
+		}
+		if (current == null) {
+			current = new Node<E>(null, firstChild);
+			parent.setChild(current);
+			register(current);
+		}
+		while (current.getIndex() != childIndex) {
+			Node<E> sib = new Node<E>(null, current.getIndex() + 1);
+			sib.setSib(current.getSib());
+			current.setSib(sib);
+			register(sib);
+			current = sib;
+		}
+		return current;
+	}
+
+	/**
+	 * @return the tree as an array full of objects. The array is copied from
+	 *         the one kept since the tree last changed, so it is the caller's
+	 *         to change.
+	 */
+	public Object[] toArray() {
+		return cachedArray().clone();
+	}
+
+	/**
+	 * @param generator
+	 *            makes an array of the wanted type and length
+	 * @return the tree as an array of the given type, copied from the one
+	 *         kept since the tree last changed
+	 */
+	public E[] toArray(IntFunction<E[]> generator) {
+		Object[] array = cachedArray();
+		E[] typed = generator.apply(array.length);
+		System.arraycopy(array, 0, typed, 0, array.length);
+		return typed;
+	}
+
+	/**
+	 * @return the array of the tree, made again only if the tree has changed
+	 *         since it was last made. It must not be changed.
+	 */
+	private Object[] cachedArray() {
+		Cached<Object[]> cached = cachedArray;
+		if (cached == null || cached.version != modCount) {
+			cached = new Cached<>(modCount, levelOrderArray());
+			cachedArray = cached;
+		}
+		return cached.value;
+	}
+
+	/**
+	 * @return a new array of the tree, found by walking it in level order
+	 */
+	private Object[] levelOrderArray() {
+		Object[] tempArray = new Object[TreeIndex.arraySize(this.height, this.k)];
+		ArrayDeque<Node<E>> chains = new ArrayDeque<>();
+		Node<E> current = root;
+		while (current != null && current.getIndex() < tempArray.length) {
+			tempArray[current.getIndex()] = current.getCode();
+			if (current.getChild() != null) {
+				chains.add(current.getChild());
+			}
+			current = current.getSib() != null ? current.getSib() : chains.poll();
+		}
+		return tempArray;
+	}
+
+	/**
+	 * @return the nodes holding values in level order, which is index order.
+	 *         Only the children of nodes holding values are looked at, so the
+	 *         empty slots of a deep, sparse tree cost nothing.
+	 */
+	private List<Node<E>> valueNodes() {
+		List<Node<E>> nodes = new ArrayList<>(size);
+		if (root.getCode() != null) {
+			nodes.add(root);
+		}
+		for (int n = 0; n < nodes.size(); n++) {
+			for (Node<E> child = nodes.get(n).getChild(); child != null; child = child.getSib()) {
+				if (child.getCode() != null) {
+					nodes.add(child);
+				}
+			}
+		}
+		return nodes;
+	}
+
+	/**
+	 * @return the value of each node keyed by its index, in level order.
+	 *         Unlike toArray() this takes space for the nodes only, however
+	 *         deep the tree is.
+	 */
+	Map<Integer, E> levelOrderNodes() {
+		Map<Integer, E> nodes = new LinkedHashMap<>();
+		for (Node<E> node : valueNodes()) {
+			nodes.put(node.getIndex(), node.getCode());
+		}
+		return nodes;
+	}
+
+	/**
+	 * @return the tree as a String, made again only if the tree has changed
+	 *         since it was last asked for. Every empty slot down to the
+	 *         height is written as null, so for a deep, sparse tree the
+	 *         String is very long; writeTo(Appendable) writes the same thing
+	 *         without holding it all in memory.
+	 */
+	public String toString() {
+		Cached<String> cached = cachedString;
+		if (cached == null || cached.version != modCount) {
+			cached = new Cached<>(modCount, root.getCode() == null ? null : render(this::writeTo));
+			cachedString = cached;
+		}
+		return cached.value;
+	}
+
+	/**
+	 * @param renderer
+	 *            writes the tree out
+	 * @return what the renderer wrote, as a String
+	 */
+	private static String render(Renderer renderer) {
+		StringBuilder builder = new StringBuilder();
+		try {
+			renderer.render(builder);
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+		return builder.toString();
+	}
+
+	/**
+	 * Writes the tree in the same form as toString(), one level per line,
+	 * straight to the output as it walks the tree instead of building the
+	 * whole String first. Nothing is written for an empty tree.
+	 * 
+	 * @param out
+	 *            where the tree is written
+	 * @throws IOException
+	 *             if the output cannot be written to
+	 */
+	public void writeTo(Appendable out) throws IOException {
+		if (root.getCode() == null) {
+			return;
+		}
+		int end = TreeIndex.arraySize(height, k);
+		long rightMost = 0;
+		ArrayDeque<Node<E>> chains = new ArrayDeque<>();
+		Node<E> current = root;
+		// nodes come off the walk in index order, slots the tree has no node
+		// object for are written as null
+		for (int i = 0; i < end; i++) {
+			if (i > 0) {
+				if (i == rightMost + 1) {
+					out.append('\n');
+					rightMost = rightMost * k + k;
+				} else {
+					out.append(' ');
+				}
+			}
+			if (current != null && current.getIndex() == i) {
+				out.append(String.valueOf(current.getCode()));
+				if (current.getChild() != null) {
+					chains.add(current.getChild());
+				}
+				current = current.getSib() != null ? current.getSib() : chains.poll();
+			} else {
+				out.append("null");
+			}
+		}
+	}
+
+	/**
+	 * Writes the tree to a binary stream that readFrom() reads back. Only the
+	 * nodes holding values are written, so a sparse tree takes space for its
+	 * nodes and not for the empty slots of its array. The stream holds the
+	 * magic number and the version of the format as ints, then k, the size
+	 * and the height, then the index of each node as its distance from the
+	 * index before it, all as varints, and then the value of each node in
+	 * the same order.
+	 * 
+	 * @param out
+	 *            where the tree is written
+	 * @param codec
+	 *            writes each value
+	 * @throws IOException
+	 *             if the output cannot be written to
+	 */
+	public void writeTo(DataOutput out, ValueCodec<E> codec) throws IOException {
+		List<Node<E>> nodes = valueNodes();
+		out.writeInt(MAGIC);
+		out.writeInt(VERSION);
+		writeVarint(out, k);
+		writeVarint(out, nodes.size());
+		writeVarint(out, nodes.isEmpty() ? 0 : TreeIndex.levelOf(nodes.get(nodes.size() - 1).getIndex(), k));
+		int previous = -1;
+		for (Node<E> node : nodes) {
+			writeVarint(out, node.getIndex() - previous);
+			previous = node.getIndex();
+		}
+		for (Node<E> node : nodes) {
+			codec.write(node.getCode(), out);
+		}
+	}
+
+	/**
+	 * Reads a tree written by writeTo(DataOutput, ValueCodec).
+	 * 
+	 * @param in
+	 *            where the tree is read from
+	 * @param codec
+	 *            reads each value, the same way the tree was written
+	 * @return the tree
+	 * @throws IOException
+	 *             if the input cannot be read or does not hold a tree
+	 */
+	@SuppressWarnings("unchecked")
+	public static <E> KTree<E> readFrom(DataInput in, ValueCodec<E> codec) throws IOException {
+		if (in.readInt() != MAGIC) {
+			throw new IOException("Not a KTree stream!");
+		}
+		int version = in.readInt();
+		if (version != VERSION) {
+			throw new IOException("Unknown KTree stream version " + version + "!");
+		}
+		int k = readVarint(in);
+		int size = readVarint(in);
+		int height = readVarint(in);
+		// every level down to the height holds a node and no index is past
+		// the last level, so a size or height that breaks either is corrupt
+		if (k < 2 || height > TreeIndex.levelOf(Integer.MAX_VALUE, k) || (size == 0 ? height != 0 : height >= size)
+				|| size > TreeIndex.firstOfLevel(height + 1, k)) {
+			throw new IOException("Not a KTree stream!");
+		}
+
+		// the arrays grow as the nodes are read instead of being made as big
+		// as the size says, so a stream that ends early cannot take more
+		// memory than it holds
+		int[] indices = new int[Math.min(size, READ_CHUNK)];
+		long index = -1;
+		for (int n = 0; n < size; n++) {
+			int gap = readVarint(in);
+			index += gap;
+			if (gap == 0 || index > Integer.MAX_VALUE) {
+				throw new IOException("Not a KTree stream!");
+			}
+			if (n == indices.length) {
+				indices = Arrays.copyOf(indices, (int) Math.min(size, 2L * n));
+			}
+			indices[n] = (int) index;
+		}
+		E[] values = (E[]) new Object[Math.min(size, READ_CHUNK)];
+		for (int n = 0; n < size; n++) {
+			if (n == values.length) {
+				values = Arrays.copyOf(values, (int) Math.min(size, 2L * n));
+			}
+			values[n] = codec.read(in);
+			if (values[n] == null) {
+				throw new IOException("Not a KTree stream!");
+			}
+		}
+
+		KTree<E> tree = new KTree<>((E[]) new Object[1], k);
+		try {
+			tree.setAll(indices, values);
+		} catch (InvalidTreeException e) {
+			throw new IOException("Not a KTree stream!", e);
+		}
+		if (tree.size() != size || tree.height() != height) {
+			throw new IOException("Not a KTree stream!");
+		}
+		return tree;
+	}
+
+	/**
+	 * Writes a number that is not negative in as few bytes as it needs,
+	 * seven bits to a byte with the high bit set on every byte but the last.
+	 * 
+	 * @param out
+	 *            where the number is written
+	 * @param value
+	 *            the number, not negative
+	 * @throws IOException
+	 *             if the output cannot be written to
+	 */
+	private static void writeVarint(DataOutput out, int value) throws IOException {
+		while ((value & ~0x7F) != 0) {
+			out.writeByte((value & 0x7F) | 0x80);
+			value >>>= 7;
+		}
+		out.writeByte(value);
+	}
+
+	/**
+	 * @param in
+	 *            where the number is read from
+	 * @return a number written by writeVarint()
+	 * @throws IOException
+	 *             if the input cannot be read or the number does not fit in
+	 *             an int
+	 */
+	private static int readVarint(DataInput in) throws IOException {
+		int value = 0;
+		for (int shift = 0; shift < 32; shift += 7) {
+			int b = in.readUnsignedByte();
+			value |= (b & 0x7F) << shift;
+			if ((b & 0x80) == 0) {
+				if (value < 0) {
+					throw new IOException("Not a KTree stream!");
+				}
+				return value;
+			}
+		}
+		throw new IOException("Not a KTree stream!");
+	}
+
+	/**
+	 * @return an iterator that traverses the tree in level order
+	 */
+	public Iterator<E> getLevelOrderIterator() {
+		return levelOrderFrom(root);
+	}
+
+	/**
+	 * @param start
+	 *            the node to start at. Its siblings are not visited.
+	 * @return an iterator that traverses the subtree under the node in level
+	 *         order, skipping empty nodes
+	 */
+	private Iterator<E> levelOrderFrom(Node<E> start) {
+		return new Iterator<E>() {
+			// the first children of the nodes already visited, in order
+			ArrayDeque<Node<E>> queue = new ArrayDeque<>();
+			Node<E> current = start;
+
+			/**
+			 * @return true or false based on if the level order iterator has
+			 *         another value to return
+			 */
+			public boolean hasNext() {
+				while (current != null && current.getCode() == null) {
+					current = following(current);
+				}
+				return current != null;
+			}
+
+			/**
+			 * @return the value of the next node in the tree
+			 */
+			public E next() {
+				if (!hasNext()) {
+					throw new NullPointerException("No more items!");
+				}
+				Node<E> node = current;
+				current = following(node);
+				return node.getCode();
+			}
+
+			/**
+			 * @param node
+			 *            the node just visited
+			 * @return the node after it in level order
+			 */
+			private Node<E> following(Node<E> node) {
+				if (node.getChild() != null) {
+					queue.add(node.getChild());
+				}
+				return node != start && node.getSib() != null ? node.getSib() : queue.poll();
+			}
+		};
+	}
+
+	/**
+	 * @return an String representation of the tree traversed in level order
+	 */
+	public String toStringLevelOrder() {
+		Cached<String> cached = cachedLevelOrder;
+		if (cached == null || cached.version != modCount) {
+			cached = new Cached<>(modCount, render(this::writeLevelOrderTo));
+			cachedLevelOrder = cached;
+		}
+		return cached.value;
+	}
+
+	/**
+	 * Writes the values of the tree in level order separated by spaces, the
+	 * same as toStringLevelOrder(), straight to the output.
+	 * 
+	 * @param out
+	 *            where the values are written
+	 * @throws IOException
+	 *             if the output cannot be written to
+	 */
+	public void writeLevelOrderTo(Appendable out) throws IOException {
+		writeValues(this.getLevelOrderIterator(), out);
+	}
+
+	/**
+	 * @param it
+	 *            an iterator over the tree
+	 * @param out
+	 *            where the values are written, separated by spaces
+	 * @throws IOException
+	 *             if the output cannot be written to
+	 */
+	private void writeValues(Iterator<E> it, Appendable out) throws IOException {
+		boolean first = true;
+		while (it.hasNext()) {
+			E value;
+			try {
+				value = it.next();
+			} catch (NullPointerException e) {
+				// only empty nodes were left
+				break;
+			}
+			if (!first) {
+				out.append(' ');
+			}
+			out.append(String.valueOf(value));
+			first = false;
+		}
+	}
+
+	/**
+	 * @return an iterator that traverses the tree in pre-order
+	 */
+	public Iterator<E> getPreOrderIterator() {
+		return preOrderFrom(root);
+	}
+
+	/**
+	 * @return an String representation of the tree traversed in pre-order
+	 */
+	public String toStringPreOrder() {
+		Cached<String> cached = cachedPreOrder;
+		if (cached == null || cached.version != modCount) {
+			cached = new Cached<>(modCount, render(this::writePreOrderTo));
+			cachedPreOrder = cached;
+		}
+		return cached.value;
+	}
+
+	/**
+	 * Writes the values of the tree in pre-order separated by spaces, the
+	 * same as toStringPreOrder(), straight to the output.
+	 * 
+	 * @param out
+	 *            where the values are written
+	 * @throws IOException
+	 *             if the output cannot be written to
+	 */
+	public void writePreOrderTo(Appendable out) throws IOException {
+		writeValues(this.getPreOrderIterator(), out);
+	}
+
+	/**
+	 * @return an iterator that traverses the tree in post-order. It finds each
+	 *         node as it is asked for, keeping only the path from the root
+	 *         down to the node it is on.
+	 */
+	public Iterator<E> getPostOrderIterator() {
+		return postOrderFrom(root);
+	}
+
+	/**
+	 * @return an String representation of the tree traversed in post-order
+	 */
+	public String toStringPostOrder() {
+		Cached<String> cached = cachedPostOrder;
+		if (cached == null || cached.version != modCount) {
+			cached = new Cached<>(modCount, render(this::writePostOrderTo));
+			cachedPostOrder = cached;
+		}
+		return cached.value;
+	}
+
+	/**
+	 * Writes the values of the tree in post-order separated by spaces, the
+	 * same as toStringPostOrder(), straight to the output.
+	 * 
+	 * @param out
+	 *            where the values are written
+	 * @throws IOException
+	 *             if the output cannot be written to
+	 */
+	public void writePostOrderTo(Appendable out) throws IOException {
+		writeValues(this.getPostOrderIterator(), out);
+	}
+
+	/**
+	 * @param start
+	 *            the node to start at. Its siblings are not visited.
+	 * @return an iterator that traverses the subtree under the node in
+	 *         pre-order, skipping empty nodes
+	 */
+	private Iterator<E> preOrderFrom(Node<E> start) {
+		return new Iterator<E>() {
+			// the right siblings still to visit, at most one for each level
+			ArrayDeque<Node<E>> stack = new ArrayDeque<>();
+			Node<E> current = start;
+
+			/**
+			 * @return true or false based on if there is another value
+			 */
+			public boolean hasNext() {
+				while (true) {
+					if (current == null) {
+						current = stack.poll();
+						if (current == null) {
+							return false;
+						}
+					}
+					if (current.getCode() != null) {
+						return true;
+					}
+					// an empty node has nothing below it
+					current = current == start ? null : current.getSib();
+				}
+			}
+
+			/**
+			 * @return the value of the next node in the tree
+			 */
+			public E next() {
+				if (!hasNext()) {
+					throw new NullPointerException("No more items!");
+				}
+				Node<E> node = current;
+				if (node != start && node.getSib() != null) {
+					stack.push(node.getSib());
+				}
+				current = node.getChild();
+				return node.getCode();
+			}
+		};
+	}
+
+	/**
+	 * @param start
+	 *            the node to start at. Its siblings are not visited.
+	 * @return an iterator that traverses the subtree under the node in
+	 *         post-order, skipping empty nodes
+	 */
+	private Iterator<E> postOrderFrom(Node<E> start) {
+		return new Iterator<E>() {
+			// the nodes whose children are being visited, one for each level
+			ArrayDeque<Node<E>> stack = new ArrayDeque<>();
+			Node<E> current = start;
+			Node<E> pending;
+
+			/**
+			 * @return true or false based on if there is another value
+			 */
+			public boolean hasNext() {
+				while (pending == null) {
+					while (current != null) {
+						stack.push(current);
+						current = current.getChild();
+					}
+					Node<E> node = stack.poll();
+					if (node == null) {
+						return false;
+					}
+					// every child of the node has been visited, so it is next
+					// and then its right sibling's subtree
+					current = node == start ? null : node.getSib();
+					if (node.getCode() != null) {
+						pending = node;
+					}
+				}
+				return true;
+			}
+
+			/**
+			 * @return the value of the next node in the tree
+			 */
+			public E next() {
+				if (!hasNext()) {
+					throw new NullPointerException("No more items!");
+				}
+				E result = pending.getCode();
+				pending = null;
+				return result;
+			}
+		};
+	}
+
+	/**
+	 * @param node
+	 *            a node of the tree
+	 * @return the children of the node that are not empty
+	 */
+	private static <E> ArrayDeque<Node<E>> children(Node<E> node) {
+		ArrayDeque<Node<E>> children = new ArrayDeque<>();
+		for (Node<E> child = node.getChild(); child != null; child = child.getSib()) {
+			if (child.getCode() != null) {
+				children.add(child);
+			}
+		}
+		return children;
+	}
+
+	/**
+	 * @return a spliterator that traverses the tree in level order and splits
+	 *         by handing off the rest of the level it is on
+	 */
+	public Spliterator<E> levelOrderSpliterator() {
+		List<Node<E>> level = new ArrayList<>();
+		if (root.getCode() != null) {
+			level.add(root);
+		}
+		return new LevelSpliterator(level, 0, level.size(), true, size);
+	}
+
+	/**
+	 * @return a spliterator that traverses the tree in pre-order and splits
+	 *         by handing off whole subtrees
+	 */
+	public Spliterator<E> preOrderSpliterator() {
+		return new SubtreeSpliterator(false);
+	}
+
+	/**
+	 * @return a spliterator that traverses the tree in post-order and splits
+	 *         by handing off whole subtrees
+	 */
+	public Spliterator<E> postOrderSpliterator() {
+		return new SubtreeSpliterator(true);
+	}
+
+	/**
+	 * This class splits a level order traversal. It holds a run of nodes on
+	 * one level and, if it goes on past that level, walks down level by
+	 * level. Splitting hands off the rest of the current level and moves on
+	 * to the next one.
+	 */
+	private class LevelSpliterator implements Spliterator<E> {
+		private List<Node<E>> level;
+		private int position;
+		private int end;
+		private boolean descend;
+		private long estimate;
+		private boolean sized;
+
+		/**
+		 * @param level
+		 *            all the nodes of a level that are not empty
+		 * @param position
+		 *            the first of them still to visit
+		 * @param end
+		 *            one past the last of them to visit
+		 * @param descend
+		 *            whether to go on to the levels below
+		 * @param estimate
+		 *            the number of values left, exact for the whole tree
+		 */
+		LevelSpliterator(List<Node<E>> level, int position, int end, boolean descend, long estimate) {
+			this.level = level;
+			this.position = position;
+			this.end = end;
+			this.descend = descend;
+			this.estimate = estimate;
+			this.sized = descend;
+		}
+
+		/**
+		 * Moves down to the level below the one being held.
+		 * 
+		 * @return false if there are no nodes below
+		 */
+		private boolean nextLevel() {
+			List<Node<E>> below = new ArrayList<>();
+			for (Node<E> node : level) {
+				below.addAll(children(node));
+			}
+			level = below;
+			position = 0;
+			end = below.size();
+			return end > 0;
+		}
+
+		/**
+		 * @param action
+		 *            what to do with the next value
+		 * @return false once there are no more values
+		 */
+		public boolean tryAdvance(Consumer<? super E> action) {
+			while (position == end) {
+				if (!descend || !nextLevel()) {
+					return false;
+				}
+			}
+			action.accept(level.get(position++).getCode());
+			if (estimate > 0) {
+				estimate--;
+			}
+			return true;
+		}
+
+		/**
+		 * @return a spliterator for the values before the ones this one keeps,
+		 *         or null if there is nothing worth splitting off
+		 */
+		public Spliterator<E> trySplit() {
+			LevelSpliterator prefix;
+			if (!descend) {
+				if (end - position < 2) {
+					return null;
+				}
+				int middle = (position + end) >>> 1;
+				prefix = new LevelSpliterator(level, position, middle, false, middle - position);
+				position = middle;
+			} else {
+				if (position == end && !nextLevel()) {
+					return null;
+				}
+				prefix = new LevelSpliterator(level, position, end, false, end - position);
+				nextLevel();
+			}
+			sized = false;
+			estimate = Math.max(estimate - prefix.estimate, 0);
+			return prefix;
+		}
+
+		/**
+		 * @return the number of values left, exact until the first split
+		 */
+		public long estimateSize() {
+			return descend ? estimate : end - position;
+		}
+
+		/**
+		 * @return what this spliterator promises about its values
+		 */
+		public int characteristics() {
+			return ORDERED | NONNULL | (sized || !descend ? SIZED : 0);
+		}
+	}
+
+	/**
+	 * This class splits a pre-order or post-order traversal. It holds a row
+	 * of subtrees to visit one after the other, along with the values of the
+	 * nodes above them that come before (pre-order) or after (post-order)
+	 * them. Splitting hands off the first half of the subtrees, opening up a
+	 * lone subtree into its root and its children first.
+	 */
+	private class SubtreeSpliterator implements Spliterator<E> {
+		private boolean postOrder;
+		private ArrayDeque<E> before = new ArrayDeque<>();
+		private ArrayDeque<Node<E>> subtrees = new ArrayDeque<>();
+		private ArrayDeque<E> after = new ArrayDeque<>();
+		private Iterator<E> walk;
+		private long estimate;
+		private boolean sized;
+
+		/**
+		 * @param postOrder
+		 *            true for post-order, false for pre-order
+		 */
+		SubtreeSpliterator(boolean postOrder) {
+			this.postOrder = postOrder;
+			if (root.getCode() != null) {
+				subtrees.add(root);
+			}
+			this.estimate = size;
+			this.sized = true;
+		}
+
+		/**
+		 * @param postOrder
+		 *            true for post-order, false for pre-order
+		 * @param estimate
+		 *            about how many values it holds
+		 */
+		private SubtreeSpliterator(boolean postOrder, long estimate) {
+			this.postOrder = postOrder;
+			this.estimate = estimate;
+		}
+
+		/**
+		 * @param action
+		 *            what to do with the next value
+		 * @return false once there are no more values
+		 */
+		public boolean tryAdvance(Consumer<? super E> action) {
+			E value = null;
+			if (!before.isEmpty()) {
+				value = before.poll();
+			} else {
+				while (value == null) {
+					if (walk != null && walk.hasNext()) {
+						value = walk.next();
+					} else if (!subtrees.isEmpty()) {
+						Node<E> subtree = subtrees.poll();
+						walk = postOrder ? postOrderFrom(subtree) : preOrderFrom(subtree);
+					} else if (!after.isEmpty()) {
+						value = after.poll();
+					} else {
+						return false;
+					}
+				}
+			}
+			action.accept(value);
+			if (estimate > 0) {
+				estimate--;
+			}
+			return true;
+		}
+
+		/**
+		 * @return a spliterator for the values before the ones this one keeps,
+		 *         or null if there is nothing worth splitting off
+		 */
+		public Spliterator<E> trySplit() {
+			if (walk != null && walk.hasNext()) {
+				return null;
+			}
+			// open up a lone subtree until there are subtrees to hand off
+			while (subtrees.size() == 1) {
+				Node<E> subtree = subtrees.poll();
+				if (postOrder) {
+					after.addFirst(subtree.getCode());
+				} else {
+					before.add(subtree.getCode());
+				}
+				subtrees = children(subtree);
+			}
+			if (subtrees.size() < 2) {
+				return null;
+			}
+			SubtreeSpliterator prefix = new SubtreeSpliterator(postOrder, estimate / 2);
+			prefix.before = before;
+			before = new ArrayDeque<>();
+			for (int half = subtrees.size() / 2; half > 0; half--) {
+				prefix.subtrees.add(subtrees.poll());
+			}
+			sized = false;
+			estimate -= prefix.estimate;
+			return prefix;
+		}
+
+		/**
+		 * @return about how many values are left, exact until the first split
+		 */
+		public long estimateSize() {
+			return estimate;
+		}
+
+		/**
+		 * @return what this spliterator promises about its values
+		 */
+		public int characteristics() {
+			return ORDERED | NONNULL | (sized ? SIZED : 0);
+		}
+	}
+
+	/**
+	 * 
+	 * @param tree
+	 *            the tree containing the letters in the message
+	 * @param codedMessage
+	 *            the "instructions" for getting the letters of the message
+	 * @return a String of the decoded messaged
+	 */
+	public static String decode(KTree<String> tree, String codedMessage) {
+		StringBuilder decoded = new StringBuilder(codedMessage.length());
+		Node<String> current = tree.root;
+		for (int i = 0; i < codedMessage.length(); i++) {
+			int digit = Character.getNumericValue(codedMessage.charAt(i));
+			current = current.getChild();
+			for (int k = 0; k < digit; k++) {
+				current = current.getSib();
+			}
+
+			if (!"_".equals(current.getCode())) {
+				decoded.append(current.getCode());
+				current = tree.root;
+			}
+		}
+		return decoded.toString();
+	}
+
+	/**
+	 * 
+	 * @param i
+	 *            is the index of the node that should be the root node in the
+	 *            new subtree
+	 * @return array of elements in the subtree
+	 */
+	@SuppressWarnings("unchecked")
+	public E[] subtree(int i) {
+		return (E[]) subtreeView(i).toArray();
+	}
+
+	/**
+	 * Gives a read only view of the subtree under a node without copying it.
+	 * The view is indexed as if the node were the root, and it sees any
+	 * later changes to the tree.
+	 * 
+	 * @param i
+	 *            is the index of the node that should be the root node of the
+	 *            view
+	 * @return the subtree under the node
+	 */
+	public SubtreeView subtreeView(int i) {
+		Node<E> newRoot = findNode(i);
+		if (newRoot == null || newRoot.getCode() == null) {
+			throw new IllegalArgumentException("Node not in tree!");
+		}
+		return new SubtreeView(newRoot);
+	}
+
+	/**
+	 * A read only view of the subtree under one node of the tree, backed by
+	 * the nodes of the tree. Index 0 of the view is the node itself and its
+	 * children are 1 through k, as if it were the root of its own tree.
+	 */
+	public class SubtreeView implements TreeIterable<E> {
+		private final Node<E> start;
+
+		/**
+		 * @param start
+		 *            the node at the root of the view
+		 */
+		private SubtreeView(Node<E> start) {
+			this.start = start;
+		}
+
+		/**
+		 * 
+		 * @return the branching factor of the tree, k
+		 */
+		public int getK() {
+			return k;
+		}
+
+		/**
+		 * Counts the nodes of the subtree, which walks the whole subtree.
+		 * 
+		 * @return the size of the subtree or how many nodes there are in it
+		 */
+		public int size() {
+			int count = 0;
+			for (Iterator<E> it = getLevelOrderIterator(); it.hasNext(); it.next()) {
+				count++;
+			}
+			return count;
+		}
+
+		/**
+		 * Finds the deepest level of the subtree, which walks the whole
+		 * subtree.
+		 * 
+		 * @return the height of the subtree or the number of edges from its
+		 *         root to its deepest leaf
+		 */
+		public int height() {
+			int deepest = 0;
+			List<Node<E>> level = new ArrayList<>(children(start));
+			for (int depth = 1; !level.isEmpty(); depth++) {
+				List<Node<E>> below = new ArrayList<>();
+				for (Node<E> node : level) {
+					if (node.getCode() != null) {
+						deepest = depth;
+					}
+					below.addAll(children(node));
+				}
+				level = below;
+			}
+			return deepest;
+		}
+
+		/**
+		 * 
+		 * @param i
+		 *            the index of the desired node, counted from the root of
+		 *            the view
+		 * @return the value of the node at the indicated index
+		 */
+		public E get(int i) {
+			if (i < 0) {
+				throw new IllegalArgumentException("Node not in tree!");
+			}
+			// the node is as far along its level of the view as it is along
+			// the same level under the root of the view in the tree
+			int depth = TreeIndex.levelOf(i, k);
+			long index = start.getIndex();
+			for (int d = 0; d < depth && index <= Integer.MAX_VALUE; d++) {
+				index = index * k + 1;
+			}
+			index += i - TreeIndex.firstOfLevel(depth, k);
+			Node<E> node = index <= Integer.MAX_VALUE ? findNode((int) index) : null;
+			if (node == null || node.getCode() == null) {
+				throw new IllegalArgumentException("Node not in tree!");
+			}
+			return node.getCode();
+		}
+
+		/**
+		 * @return the subtree as an array full of objects, with a slot for
+		 *         every position down to the height of the subtree
+		 */
+		public Object[] toArray() {
+			// walk the subtree a level at a time, giving each node the index
+			// it has under the new root and growing the array for each new
+			// level
+			Object[] tempArray = new Object[1];
+			List<Node<E>> level = new ArrayList<>();
+			level.add(start);
+			long oldFirst = start.getIndex();
+			long newFirst = 0;
+			for (int depth = 0; !level.isEmpty(); depth++) {
+				if (depth > 0) {
+					tempArray = Arrays.copyOf(tempArray, TreeIndex.arraySize(depth, k));
+				}
+				List<Node<E>> below = new ArrayList<>();
+				for (Node<E> node : level) {
+					tempArray[(int) (newFirst + node.getIndex() - oldFirst)] = node.getCode();
+					below.addAll(children(node));
+				}
+				level = below;
+				oldFirst = oldFirst * k + 1;
+				newFirst = newFirst * k + 1;
+			}
+			return tempArray;
+		}
+
+		/**
+		 * @return an iterator that traverses the subtree in level order
+		 */
+		public Iterator<E> getLevelOrderIterator() {
+			return levelOrderFrom(start);
+		}
+
+		/**
+		 * @return an iterator that traverses the subtree in pre-order
+		 */
+		public Iterator<E> getPreOrderIterator() {
+			return preOrderFrom(start);
+		}
+
+		/**
+		 * @return an iterator that traverses the subtree in post-order
+		 */
+		public Iterator<E> getPostOrderIterator() {
+			return postOrderFrom(start);
+		}
+	}
+
+	/**
+	 * @return array of the elements of the tree with the children of every
+	 *         node in reverse order
+	 */
+	@SuppressWarnings("unchecked")
+	public E[] mirror() {
+		E[] tempArray = (E[]) new Object[TreeIndex.arraySize(this.height, this.k)];
+		ArrayDeque<Node<E>> chains = new ArrayDeque<>();
+		Node<E> current = root;
+		while (current != null && current.getIndex() < tempArray.length) {
+			tempArray[TreeIndex.mirrorOf(current.getIndex(), k)] = current.getCode();
+			if (current.getChild() != null) {
+				chains.add(current.getChild());
+			}
+			current = current.getSib() != null ? current.getSib() : chains.poll();
+		}
+		return tempArray;
+	}
+
+	/**
+	 * Gives a read only view of the tree with the children of every node in
+	 * reverse order, without copying it. The view sees any later changes to
+	 * the tree.
+	 * 
+	 * @return the mirror of the tree
+	 */
+	public MirrorView mirroredView() {
+		return new MirrorView();
+	}
+
+	/**
+	 * A read only view of the mirror of the tree, backed by the nodes of the
+	 * tree. The iterators visit the children of each node from the last to
+	 * the first.
+	 */
+	public class MirrorView implements TreeIterable<E> {
+		/**
+		 * Only the tree makes views of itself.
+		 */
+		private MirrorView() {
+		}
+
+		/**
+		 * @return the tree this is the mirror of
+		 */
+		private KTree<E> tree() {
+			return KTree.this;
+		}
+
+		/**
+		 * @return a new deque holding the root, or nothing if the tree is
+		 *         empty
+		 */
+		private ArrayDeque<Node<E>> start() {
+			ArrayDeque<Node<E>> nodes = new ArrayDeque<>();
+			if (root.getCode() != null) {
+				nodes.add(root);
+			}
+			return nodes;
+		}
+
+		/**
+		 * 
+		 * @return the branching factor of the tree, k
+		 */
+		public int getK() {
+			return k;
+		}
+
+		/**
+		 * 
+		 * @return the size of the tree or how many nodes there are in it
+		 */
+		public int size() {
+			return size;
+		}
+
+		/**
+		 * @return the height of the tree or the number of edges from the root
+		 *         to the deepest leaf
+		 */
+		public int height() {
+			return height;
+		}
+
+		/**
+		 * 
+		 * @param i
+		 *            the index of the desired node in the mirror
+		 * @return the value of the node at the indicated index
+		 */
+		public E get(int i) {
+			if (i < 0) {
+				throw new IllegalArgumentException("Node not in tree!");
+			}
+			long first = TreeIndex.firstOfLevel(TreeIndex.levelOf(i, k), k);
+			long mirrored = first + first * k - i;
+			if (mirrored > Integer.MAX_VALUE) {
+				throw new IllegalArgumentException("Node not in tree!");
+			}
+			return KTree.this.get((int) mirrored);
+		}
+
+		/**
+		 * @return the mirror as an array full of objects
+		 */
+		public Object[] toArray() {
+			return mirror();
+		}
+
+		/**
+		 * @return an iterator that traverses the mirror in level order
+		 */
+		public Iterator<E> getLevelOrderIterator() {
+			return new Iterator<E>() {
+				ArrayDeque<Node<E>> queue = start();
+
+				/**
+				 * @return true or false based on if there is another value
+				 */
+				public boolean hasNext() {
+					return !queue.isEmpty();
+				}
+
+				/**
+				 * @return the value of the next node in the mirror
+				 */
+				public E next() {
+					Node<E> node = queue.poll();
+					if (node == null) {
+						throw new NullPointerException("No more items!");
+					}
+					for (Iterator<Node<E>> it = children(node).descendingIterator(); it.hasNext();) {
+						queue.add(it.next());
+					}
+					return node.getCode();
+				}
+			};
+		}
+
+		/**
+		 * @return an iterator that traverses the mirror in pre-order
+		 */
+		public Iterator<E> getPreOrderIterator() {
+			return new Iterator<E>() {
+				ArrayDeque<Node<E>> stack = start();
+
+				/**
+				 * @return true or false based on if there is another value
+				 */
+				public boolean hasNext() {
+					return !stack.isEmpty();
+				}
+
+				/**
+				 * @return the value of the next node in the mirror
+				 */
+				public E next() {
+					Node<E> node = stack.poll();
+					if (node == null) {
+						throw new NullPointerException("No more items!");
+					}
+					// the last child goes on top so it is visited first
+					for (Node<E> child : children(node)) {
+						stack.push(child);
+					}
+					return node.getCode();
+				}
+			};
+		}
+
+		/**
+		 * @return an iterator that traverses the mirror in post-order
+		 */
+		public Iterator<E> getPostOrderIterator() {
+			return new Iterator<E>() {
+				// the nodes on the path down from the root and the children
+				// each one has left to visit, last child first
+				ArrayDeque<Node<E>> path = start();
+				ArrayDeque<Iterator<Node<E>>> left = new ArrayDeque<>();
+
+				/**
+				 * @return true or false based on if there is another value
+				 */
+				public boolean hasNext() {
+					return !path.isEmpty();
+				}
+
+				/**
+				 * @return the value of the next node in the mirror
+				 */
+				public E next() {
+					if (path.isEmpty()) {
+						throw new NullPointerException("No more items!");
+					}
+					while (true) {
+						if (left.size() < path.size()) {
+							left.push(children(path.peek()).descendingIterator());
+						}
+						if (!left.peek().hasNext()) {
+							left.pop();
+							return path.pop().getCode();
+						}
+						path.push(left.peek().next());
+					}
+				}
+			};
+		}
+	}
+
+	/**
+	 * Reads a coded message as if the tree were mirrored, so digit 0 is the
+	 * last child of a node.
+	 * 
+	 * @param tree
+	 *            the mirror of the tree containing the letters in the message
+	 * @param codedMessage
+	 *            the "instructions" for getting the letters of the message
+	 * @return a String of the decoded messaged
+	 */
+	public static String decode(KTree<String>.MirrorView tree, String codedMessage) {
+		KTree<String> original = tree.tree();
+		StringBuilder decoded = new StringBuilder(codedMessage.length());
+		Node<String> current = original.root;
+		for (int i = 0; i < codedMessage.length(); i++) {
+			int digit = Character.getNumericValue(codedMessage.charAt(i));
+			long index = current.getIndex() * (long) original.k + original.k - digit;
+			current = digit < 0 || digit >= original.k || index > Integer.MAX_VALUE ? null
+					: original.findNode((int) index);
+			if (current == null || current.getCode() == null) {
+				throw new IllegalArgumentException("Node not in tree!");
+			}
+
+			if (!"_".equals(current.getCode())) {
+				decoded.append(current.getCode());
+				current = original.root;
+			}
+		}
+		return decoded.toString();
+	}
+
+	/**
+	 * Turns the tree into its own mirror by reversing the children of every
+	 * node and giving each node its new index, in one pass over the nodes.
+	 * 
+	 * @return this tree, now mirrored
+	 * @throws IllegalArgumentException
+	 *             if a node of the mirror would have an index too big for an
+	 *             int, in which case the tree is not changed
+	 */
+	public KTree<E> mirrorInPlace() {
+		// check every index first so the tree is never left half mirrored
+		for (Node<E> node : directory) {
+			checkMirrorIndex(node);
+		}
+		if (farDirectory != null) {
+			for (Node<E> node : farDirectory.values()) {
+				checkMirrorIndex(node);
+			}
+		}
+
+		directory = newNodes(directory.length);
+		farDirectory = null;
+		nodeCount = 0;
+		register(root);
+
+		// each parent is visited after it has its new index. Its children
+		// are put in reverse order, with empty nodes filling the places of
+		// children it does not have so the rest land in the right place,
+		// and empty leaves left at the end are dropped.
+		Node<E>[] chain = newNodes(k);
+		ArrayDeque<Node<E>> parents = new ArrayDeque<>();
+		parents.add(root);
+		while (!parents.isEmpty()) {
+			Node<E> parent = parents.poll();
+			Arrays.fill(chain, null);
+			int last = -1;
+			int position = k - 1;
+			for (Node<E> child = parent.getChild(); child != null; child = child.getSib()) {
+				chain[position] = child;
+				if (child.getCode() != null || child.getChild() != null) {
+					last = Math.max(last, position);
+				}
+				position--;
+			}
+			Node<E> previous = null;
+			for (position = 0; position <= last; position++) {
+				int index = parent.getIndex() * k + 1 + position;
+				Node<E> child = chain[position];
+				if (child == null) {
+					child = new Node<E>(null, index);
+				}
+				child.setIndex(index);
+				register(child);
+				if (previous == null) {
+					parent.setChild(child);
+				} else {
+					previous.setSib(child);
+				}
+				if (child.getChild() != null) {
+					parents.add(child);
+				}
+				previous = child;
+			}
+			if (previous == null) {
+				parent.setChild(null);
+			} else {
+				previous.setSib(null);
+			}
+		}
+		modCount++;
+		return this;
+	}
+
+	/**
+	 * @param node
+	 *            a node of the tree, or null
+	 * @throws IllegalArgumentException
+	 *             if the node holds a value or has children and its index in
+	 *             the mirror is too big for an int
+	 */
+	private void checkMirrorIndex(Node<E> node) {
+		if (node != null && (node.getCode() != null || node.getChild() != null)) {
+			long first = TreeIndex.firstOfLevel(TreeIndex.levelOf(node.getIndex(), k), k);
+			if (first + first * k - node.getIndex() > Integer.MAX_VALUE) {
+				throw new IllegalArgumentException("Tree too deep for an array!");
+			}
+		}
+	}
+
+	/****************************************/
+	/* EDIT THIS MAIN METHOD FOR TESTS. PUT */
+	/* HELPER TEST METHODS IN THIS SECTION */
+	/* AS WELL. TESTS REQUIRED FOR FULL */
+	/* CREDIT. */
+	/****************************************/
+	
+/**
+ * @param the supplied command line arguments
+ */
+	@SuppressWarnings("unchecked")
+	public static void main(String[] args) {
+		
+		/**
+		// Node method tests
+
+		// Node constructor
+		System.out.println("\nNode constructor test\n");
+		Node<Integer> test1 = new Node(0, 4);
+		Node<Integer> test2 = new Node(1, 5);
+		Node<Integer> test3 = new Node(2, 6);
+
+		Node<Integer> child1 = new Node(0, 4);
+		Node<Integer> child2 = new Node(1, 5);
+		Node<Integer> child3 = new Node(2, 6);
+
+		Node<Integer> sib1 = new Node(0, 4);
+		Node<Integer> sib2 = new Node(1, 5);
+		Node<Integer> sib3 = new Node(2, 6);
+
+		Node<Integer> next1 = new Node(0, 4);
+		Node<Integer> next2 = new Node(1, 5);
+		Node<Integer> next3 = new Node(2, 6);
+		if (test1 != null && test2 != null && test3 != null) {
+			System.out.println("You passed tests 1 through 3!");
+		}
+
+		// getIndex()
+		System.out.println("\ngetIndex() Tests:\n");
+		if (test1.getIndex() == 4) {
+			System.out.println("You passed test 1!");
+		}
+
+		if (test2.getIndex() == 5) {
+			System.out.println("You passed test 2!");
+		}
+		if (test3.getIndex() == 6) {
+			System.out.println("You passed test 3!");
+		}
+
+		// setIndex()
+		System.out.println("\nsetIndex() Tests:\n");
+		test1.setIndex(0);
+		if (test1.getIndex() == 0) {
+			System.out.println("You passed test 1!");
+		}
+
+		test2.setIndex(1);
+		if (test2.getIndex() == 1) {
+			System.out.println("You passed test 2!");
+		}
+
+		test3.setIndex(2);
+		if (test3.getIndex() == 2) {
+			System.out.println("You passed test 3!");
+		}
+
+		// getCode()
+		System.out.println("\ngetCode() Tests:\n");
+
+		if (test1.getCode() == 0) {
+			System.out.println("You passed test 1!");
+		}
+
+		if (test2.getCode() == 1) {
+			System.out.println("You passed test 2!");
+		}
+		if (test3.getCode() == 2) {
+			System.out.println("You passed test 3!");
+		}
+
+		// setCode()
+		System.out.println("\nsetCode() test\n");
+		test1.setCode(3);
+		if (test1.getCode() == 3) {
+			System.out.println("You passed test 1!");
+		}
+
+		test2.setCode(4);
+		if (test2.getCode() == 4) {
+			System.out.println("You passed test 2!");
+		}
+
+		test3.setCode(5);
+		if (test3.getCode() == 5) {
+			System.out.println("You passed test 3!");
+		}
+
+		// getChild()
+		System.out.println("\ngetChild() Tests:\n");
+		if (test1.getChild() == null & test2.getChild() == null & test3.getChild() == null) {
+			System.out.println("You passed tests 1 through 3!");
+		}
+
+		// setChild()
+		System.out.println("\nsetChild() test\n");
+		test1.setChild(child1);
+		if (test1.getChild() == child1) {
+			System.out.println("You passed test 1!");
+		}
+
+		test2.setChild(child2);
+		if (test2.getChild() == child2) {
+			System.out.println("You passed test 2!");
+		}
+
+		test3.setChild(child3);
+		if (test3.getChild() == child3) {
+			System.out.println("You passed test 3!");
+		}
+
+		// getSib()
+		System.out.println("\ngetSib() Tests:\n");
+		if (test1.getSib() == null & test2.getSib() == null & test3.getSib() == null) {
+			System.out.println("You passed tests 1 through 3!");
+		}
+
+		// setSib()
+
+		System.out.println("\nsetSib() Tests:\n");
+		test1.setSib(sib1);
+		if (test1.getSib() == sib1) {
+			System.out.println("You passed test 1!");
+		}
+
+		test2.setSib(sib2);
+		if (test2.getSib() == sib2) {
+			System.out.println("You passed test 2!");
+		}
+
+		test3.setSib(sib3);
+		if (test3.getSib() == sib3) {
+			System.out.println("You passed test 3!");
+		}
+
+		// getNext()
+		System.out.println("\ngetNext() Tests:\n");
+		if (test1.getNext() == null & test2.getNext() == null & test3.getNext() == null) {
+			System.out.println("You passed tests 1 through 3!");
+		}
+
+		// setNext()
+		System.out.println("\nsetNext() Tests:\n");
+		test1.setNext(next1);
+		if (test1.getNext() == next1) {
+			System.out.println("You passed test 1!");
+		}
+
+		test2.setNext(next2);
+		if (test2.getNext() == next2) {
+			System.out.println("You passed test 2!");
+		}
+
+		test3.setNext(next3);
+		if (test3.getNext() == next3) {
+			System.out.println("You passed test 3!");
+		}
+
+		// public KTree(E[] arrayTree, int k)
+		System.out.println("\nK-Tree Constructor Tests: \n");
+		String[] strings = { "_", "_", "A", "B", "N", null, null };
+
+		// 1. check that invalid exception is thrown for k<2
+		try {
+			KTree<String> tree = new KTree<>(strings, 1);
+		} catch (InvalidKException e) {
+			System.out.println("You passed test 1!");
+		}
+
+		try {
+			KTree<String> tree = new KTree<>(strings, 0);
+		} catch (InvalidKException e) {
+			System.out.println("You passed test 2!");
+		}
+
+		// 2. check that tree by checking each value is at the appropriate
+		// location
+		KTree<String> tree = new KTree<>(strings, 2);
+		if (tree.root.getCode().equals("_") && tree.root.getChild().getCode().equals("_")
+				&& tree.root.getChild().getSib().getCode().equals("A")
+				&& tree.root.getChild().getChild().getCode().equals("B")
+				&& tree.root.getChild().getChild().getSib().getCode().equals("N")) {
+			System.out.println("You passed test 3!");
+
+		}
+
+		Integer[] input = { 0, null, 2, null, null, 5, 6 };
+		KTree<Integer> tree2 = new KTree<>(input, 2);
+		if (tree2.root.getCode().equals(0) && tree2.root.getChild().getCode() == null
+				&& tree2.root.getChild().getSib().getCode() == 2 && tree2.root.getChild().getChild().getCode() == null
+				&& tree2.root.getChild().getChild().getSib().getCode() == null
+				&& tree2.root.getChild().getSib().getChild().getCode() == 5
+				&& tree2.root.getChild().getSib().getChild().getSib().getCode() == 6) {
+			System.out.println("You passed test 4!");
+
+		}
+
+		Integer[] input2 = { 0, null, 2, 3, null, null, null, null, 5, 6, null, null, null };
+		KTree<Integer> tree3 = new KTree<>(input2, 3);
+
+		if (tree3.root.getCode() == 0 && tree3.root.getChild().getCode() == null
+				&& tree3.root.getChild().getSib().getCode() == 2
+				&& tree3.root.getChild().getSib().getSib().getCode() == 3
+				&& tree3.root.getChild().getChild().getCode() == null
+				&& tree3.root.getChild().getChild().getSib().getCode() == null
+				&& tree3.root.getChild().getChild().getSib().getSib().getCode() == null
+				&& tree3.root.getChild().getSib().getChild().getCode() == null
+				&& tree3.root.getChild().getSib().getChild().getSib().getCode() == 5
+				&& tree3.root.getChild().getSib().getChild().getSib().getSib().getCode() == 6) {
+			System.out.println("You passed test 5!");
+
+		}
+
+		Integer[] input3 = { 0, null, null };
+		KTree<Integer> tree4 = new KTree<>(input3, 2);
+
+		if (tree4.root.getCode() == 0 && tree4.root.getChild().getCode() == null
+				&& tree4.root.getChild().getSib().getCode() == null) {
+			System.out.println("You passed test 6!");
+
+		}
+
+		Integer[] input4 = { 0, null, null, null, null, null, null };
+		KTree<Integer> tree5 = new KTree<>(input4, 2);
+
+		if (tree5.root.getCode() == 0 && tree5.root.getChild().getCode() == null
+				&& tree5.root.getChild().getSib().getCode() == null) {
+			System.out.println("You passed test 7!");
+
+		}
+
+		// getK()
+		System.out.println("\ngetK Tests: \n");
+
+		// 1. check that k tree is equal to the intended value
+		if (tree.getK() == 2) {
+			System.out.println("You passed test 1!");
+		}
+
+		if (tree2.getK() == 2) {
+			System.out.println("You passed test 2!");
+		}
+
+		if (tree3.getK() == 3) {
+			System.out.println("You passed test 3!");
+		}
+
+		// size()
+		System.out.println("\nSize Tests: \n");
+
+		// 1. check if number of elements in tree is the intended value
+		if (tree.size() == 5 && tree2.size() == 4 && tree3.size() == 5) {
+			System.out.println("You passed test 1!");
+		}
+		// 2. check an empty tree
+		Integer[] input5 = { null, null, null };
+		KTree<Integer> tree6 = new KTree<>(input5, 2);
+
+		if (tree6.size() == 0) {
+			System.out.println("You passed test 2!");
+		}
+
+		// 3. check tree with one node
+		tree6.set(0, 1);
+		if (tree6.size() == 1) {
+			System.out.println("You passed test 3!");
+		}
+
+		// 4. remove node and check number of elements
+		tree6.set(0, null);
+		if (tree6.size() == 0) {
+			System.out.println("You passed test 4!");
+		}
+
+		if (tree5.size() == 1) {
+			System.out.println("You passed test 5!");
+		}
+
+		// 5. add nodes and check number of elements
+		tree6.set(0, 1);
+		tree6.set(1, 2);
+		tree6.set(2, 3);
+		tree6.set(3, 1);
+		if (tree6.size() == 4) {
+			System.out.println("You passed test 6!");
+		}
+
+		// height()
+		System.out.println("\nHeight Tests: \n");
+
+		// 1. check if height is the intended value
+		if (tree.height() == 2) {
+			System.out.println("You passed test 1!");
+		}
+		tree.set(3, null);
+		if (tree.height() == 2) {
+			System.out.println("You passed test 2!");
+		}
+
+		tree.set(4, null);
+		if (tree.height() == 1) {
+			System.out.println("You passed test 3!");
+		}
+
+		tree.set(4, "K");
+		if (tree.height() == 2) {
+			System.out.println("You passed test 4!");
+		}
+
+		// 2. check height of empty tree
+
+		if (tree4.height() == 0) {
+			tree4.set(0, null);
+
+			if (tree4.height == 0) {
+				System.out.println("You passed test 5!");
+			}
+		}
+
+		// 3. check height of tree with one node
+		if (tree5.height() == 0) {
+			System.out.println("You passed test 6!");
+		}
+
+		// 4. check height of tree with two nodes
+		tree5.set(1, 5);
+		if (tree5.height() == 1) {
+			System.out.println("You passed test 7!");
+		}
+
+		tree5.set(1, null);
+		tree5.set(2, 3);
+		if (tree5.height() == 1) {
+			System.out.println("You passed test 8!");
+		}
+
+		// get(int i)
+		System.out.println("\nGet Tests: \n");
+
+		// 1. check if it returns correct value for given location
+		tree = new KTree<>(strings, 2);
+
+		if (tree.get(0).equals("_") && tree.get(1).equals("_") && tree.get(2).equals("A") && tree.get(3).equals("B")
+				&& tree.get(4).equals("N")) {
+			System.out.println("You passed test 1!");
+		}
+
+		// 2. if location does not exist in tree return does not exist
+		try {
+			tree.get(5);
+		} catch (IllegalArgumentException e) {
+			System.out.println("You passed test 2!");
+		}
+
+		try {
+			tree.get(-1);
+		} catch (IllegalArgumentException e) {
+			System.out.println("You passed test 3!");
+		}
+
+		tree.set(3, null);
+		if (tree.get(0).equals("_") && tree.get(1).equals("_") && tree.get(2).equals("A") && tree.get(4).equals("N")) {
+			System.out.println("You passed test 4!");
+		}
+
+		try {
+			tree.get(3);
+		} catch (IllegalArgumentException e) {
+			System.out.println("You passed test 5!");
+		}
+
+		tree2.set(5, null);
+		try {
+			tree2.get(5);
+		} catch (IllegalArgumentException e) {
+			System.out.println("You passed test 6!");
+		}
+
+		if (tree2.get(0) == 0 && tree2.get(2).equals(2) && tree2.get(6).equals(6)) {
+			System.out.println("You passed test 7!");
+		}
+
+		// set(int i, E value)
+		System.out.println("\nSet Tests: \n");
+
+		KTree<Integer> tree7 = new KTree<>(input, 2);
+
+		// 1. if value is null check if false is returned if node is not in tree
+		if (!tree7.set(1, null)) {
+			System.out.println("You passed test 1!");
+
+		}
+		// 2. check that InvalidTreeException is thrown if adding node would not
+		// make tree valid
+		try {
+			tree7.set(3, 3);
+		} catch (InvalidTreeException e) {
+			System.out.println("You passed test 2!");
+		}
+
+		// 3. if value is not null and there is no node at location i check that
+		// value was added to tree if valid
+
+		if (tree7.set(14, 14)) {
+			System.out.println("You passed test 3!");
+		} // but this should work and return true
+
+		// 4. if value is null check if false is returned if the node has
+		// children
+		if (!tree7.set(2, null)) {
+			System.out.println("You passed test 4!");
+		}
+
+		// 5. check if invalid index returns false
+
+		if (!tree7.set(-1, null)) {
+			System.out.println("You passed test 5!");
+		}
+
+		// 6. if value is null and node is in tree and does not have children
+		// check if true is returned and check that value is null after
+		// node is removed
+
+		if (tree7.set(14, null)) {
+			try {
+				tree7.get(14);
+			} catch (IllegalArgumentException e) {
+				System.out.println("You passed test 6!");
+			}
+		}
+
+		if (!tree7.set(14, null)) {
+			System.out.println("You passed test 7!");
+		}
+
+		// toArray()
+		System.out.println("\ntoArray Tests: \n");
+
+		// 1. check if each node is stored in appropriate index
+		String[] input7 = { "_", "_", "A", "B", "N", null, null };
+		tree = new KTree<>(input7, 2);
+		Object[] testArray = tree.toArray();
+		boolean passed = true;
+
+		if (tree.height() == 2) {
+			for (int i = 0; i < input7.length; i++) {
+				if (testArray[i] != null && input7[i] != null) {
+					if (!testArray[i].toString().equals(input7[i].toString())) {
+						passed = false;
+					}
+				} else if (testArray[i] == null) {
+					if (input7[i] != null && !input7[i].toString().equals("null")) {
+						passed = false;
+					}
+				} else if (input7[i] == null) {
+					if (testArray[i] != null && !testArray[i].toString().equals("null")) {
+						passed = false;
+					}
+
+				}
+			}
+		}
+		if (passed) {
+			System.out.println("You passed test 1!");
+		}
+
+		Integer[] inputRandom = { 0, null, 2, null, null, 5, 6 };
+		KTree treeRandom = new KTree<>(inputRandom, 2);
+		testArray = treeRandom.toArray();
+		passed = true;
+
+		if (treeRandom.height() == 2) {
+			for (int i = 0; i < inputRandom.length; i++) {
+				if (testArray[i] != null && inputRandom[i] != null) {
+					if (!testArray[i].toString().equals(inputRandom[i].toString())) {
+						passed = false;
+					}
+				} else if (testArray[i] == null) {
+					if (inputRandom[i] != null && !inputRandom[i].toString().equals("null")) {
+						passed = false;
+					}
+				} else if (inputRandom[i] == null) {
+					if (testArray[i] != null && !testArray[i].toString().equals("null")) {
+						passed = false;
+					}
+
+				}
+			}
+		}
+		if (passed) {
+			System.out.println("You passed test 2!");
+		}
+
+		// 2. check that empty array is returned if no elements
+		treeRandom = new KTree<>(input5, 2);
+		testArray = treeRandom.toArray();
+
+		if (treeRandom.height() == 0 && treeRandom.size() == 0) {
+			if (testArray.length == 1 && testArray[0] == null) {
+				System.out.println("You passed test 3!");
+			}
+		}
+
+		// toString()
+		System.out.println("\ntoString Tests: \n");
+
+		// check that each level is printed appropriately
+
+		Integer[] input8 = { 0, null, 2, null, null, 5, 6 };
+		tree2 = new KTree<>(input8, 2);
+		if (tree2.toString().equals("0\nnull 2\nnull null 5 6")) {
+			System.out.println("You passed test 1!");
+		}
+		// check that an empty tree prints null
+		Integer[] input9 = { null, null, null };
+		tree2 = new KTree<>(input9, 2);
+		if (tree2.toString() == null) {
+			System.out.println("You passed test 2!");
+		}
+
+		// change tree and do toString again
+		tree2 = new KTree<>(input8, 2);
+		tree2.set(6, null);
+		if (tree2.toString().equals("0\nnull 2\nnull null 5 null")) {
+			System.out.println("You passed test 3!");
+		}
+
+		tree2.set(5, null);
+		if (tree2.toString().equals("0\nnull 2")) {
+			System.out.println("You passed test 4!");
+		}
+
+		if (tree6.toString().equals("1\n2 3\n1 null null null")) {
+			System.out.println("You passed test 5!");
+		}
+
+		tree6.set(3, null);
+		if (tree6.toString().equals("1\n2 3")) {
+			System.out.println("You passed test 6!");
+		}
+
+		// Iterator<E> getLevelOrderIterator()
+		System.out.println("\ngetLevelOrderIterator Tests \n");
+
+		// check that iterator returns elements in appropriate order
+		Integer[] input10 = { 0, 1, 2, null, 4, 5, null };
+		KTree<Integer> tree8 = new KTree<>(input10, 2);
+		Iterator<Integer> it = tree8.getLevelOrderIterator();
+
+		if (it.next() == 0 && it.next() == 1 && it.next() == 2 && it.next() == 4 && it.next() == 5) {
+
+			System.out.println("You passed test 1!");
+
+		}
+
+		// check that iterator does not return any more elements
+		try {
+			System.out.println(it.next());
+		} catch (NullPointerException e) {
+			System.out.println("You passed test 2!");
+		}
+
+		tree = new KTree<>(strings, 2);
+		Iterator<String> itString = tree.getLevelOrderIterator();
+
+		if (itString.next() == tree.root.getCode() && itString.next() == tree.root.getChild().getCode()
+				&& itString.next() == tree.root.getChild().getSib().getCode()
+				&& itString.next() == tree.root.getChild().getChild().getCode()
+				&& itString.next() == tree.root.getChild().getChild().getSib().getCode()) {
+
+			System.out.println("You passed test 3!");
+
+		}
+		try {
+			System.out.println(itString.next());
+		} catch (NullPointerException e) {
+			System.out.println("You passed test 4!");
+		}
+
+		tree8.set(4, null);
+
+		it = tree8.getLevelOrderIterator();
+		if (it.next() == 0 && it.next() == 1 && it.next() == 2 && it.next() == 5) {
+			System.out.println("You passed test 5!");
+		}
+
+		try {
+			System.out.println(it.next());
+		} catch (NullPointerException e) {
+			System.out.println("You passed test 6!");
+		}
+
+		it = tree8.getLevelOrderIterator();
+		tree8.set(5, null);
+		if (it.next() == 0 && it.next() == 1 && it.next() == 2) {
+			System.out.println("You passed test 7!");
+		}
+
+		try {
+			System.out.println(it.next());
+		} catch (NullPointerException e) {
+			System.out.println("You passed test 8!");
+		}
+
+		tree8.set(1, null);
+		it = tree8.getLevelOrderIterator();
+		if (it.next() == 0 && it.next() == 2) {
+			System.out.println("You passed test 9!");
+		}
+
+		try {
+			System.out.println(it.next());
+		} catch (NullPointerException e) {
+			System.out.println("You passed test 10!");
+		}
+
+		tree8.set(2, null);
+		it = tree8.getLevelOrderIterator();
+		if (it.next() == 0) {
+			System.out.println("You passed test 11!");
+		}
+
+		try {
+			System.out.println(it.next());
+		} catch (NullPointerException e) {
+			System.out.println("You passed test 12!");
+		}
+
+		// toStringLevelOrder()
+		System.out.println("\ntoStringLevelOrder Tests \n");
+		// Integer[] input10 = { 0, 1, 2, null, 4, 5, null };
+		tree8 = new KTree<>(input10, 2);
+
+		if (tree8.toStringLevelOrder().equals("0 1 2 4 5")) {
+			System.out.println("You passed test 1!");
+		}
+
+		tree8.set(4, null);
+		if (tree8.toStringLevelOrder().equals("0 1 2 5")) {
+			System.out.println("You passed test 2!");
+		}
+
+		tree8.set(5, null);
+		if (tree8.toStringLevelOrder().equals("0 1 2")) {
+			System.out.println("You passed test 3!");
+		}
+
+		tree8.set(1, null);
+		if (tree8.toStringLevelOrder().equals("0 2")) {
+			System.out.println("You passed test 4!");
+		}
+
+		tree8.set(2, null);
+		if (tree8.toStringLevelOrder().equals("0")) {
+			System.out.println("You passed test 5!");
+		}
+		// check that nodes are returned in correct order
+		// check that empty tree returns null
+
+		// Iterator<E> getPreOrderIterator()
+		// check that nodes are returned in correct order
+		// check that empty tree returns null
+		System.out.println("\ngetPreOrderIterator Tests \n");
+
+		tree8 = new KTree<>(input10, 2);
+		Iterator<Integer> itPre = tree8.getPreOrderIterator();
+
+		if (itPre.next() == 0 && itPre.next() == 1 && itPre.next() == 4 && itPre.next() == 2 && itPre.next() == 5) {
+
+			System.out.println("You passed test 1!");
+
+		}
+
+		try {
+			System.out.println(itPre.next());
+		} catch (NullPointerException e) {
+			System.out.println("You passed test 2!");
+		}
+
+		tree = new KTree<>(strings, 2);
+		Iterator<String> itPreString = tree.getPreOrderIterator();
+
+		if (itPreString.next() == tree.root.getCode() && itPreString.next() == tree.root.getChild().getCode()
+				&& itPreString.next() == tree.root.getChild().getChild().getCode()
+				&& itPreString.next() == tree.root.getChild().getChild().getSib().getCode()
+				&& itPreString.next() == tree.root.getChild().getSib().getCode()) {
+
+			System.out.println("You passed test 3!");
+		}
+
+		try {
+			System.out.println(itPreString.next());
+		} catch (NullPointerException e) {
+			System.out.println("You passed test 4!");
+		}
+
+		tree8.set(4, null);
+
+		itPre = tree8.getPreOrderIterator();
+		if (itPre.next() == 0 && itPre.next() == 1 && itPre.next() == 2 && itPre.next() == 5) {
+			System.out.println("You passed test 5!");
+		}
+
+		try {
+			System.out.println(itPre.next());
+		} catch (NullPointerException e) {
+			System.out.println("You passed test 6!");
+		}
+
+		itPre = tree8.getPreOrderIterator();
+		tree8.set(5, null);
+		if (itPre.next() == 0 && itPre.next() == 1 && itPre.next() == 2) {
+			System.out.println("You passed test 7!");
+		}
+
+		try {
+			System.out.println(itPre.next());
+		} catch (NullPointerException e) {
+			System.out.println("You passed test 8!");
+		}
+
+		tree8.set(1, null);
+		itPre = tree8.getPreOrderIterator();
+		if (itPre.next() == 0 && itPre.next() == 2) {
+			System.out.println("You passed test 9!");
+		}
+
+		try {
+			System.out.println(itPre.next());
+		} catch (NullPointerException e) {
+			System.out.println("You passed test 10!");
+		}
+
+		tree8.set(2, null);
+		itPre = tree8.getPreOrderIterator();
+		if (itPre.next() == 0) {
+			System.out.println("You passed test 11!");
+		}
+
+		try {
+			System.out.println(itPre.next());
+		} catch (NullPointerException e) {
+			System.out.println("You passed test 12!");
+		}
+
+		itPreString = tree.getPreOrderIterator();
+		if (itPreString.next().equals("_") && itPreString.next().equals("_") && itPreString.next().equals("B")
+				&& itPreString.next().equals("N") && itPreString.next().equals("A")) {
+			System.out.println("You passed test 13!");
+		}
+
+		try {
+			System.out.println(itPreString.next());
+		} catch (NullPointerException e) {
+			System.out.println("You passed test 14!");
+		}
+
+		System.out.println("\ntoStringPreOrder Tests \n");
+		if (tree.toStringPreOrder().equals("_ _ B N A")) {
+			System.out.println("You passed test 1!");
+		}
+
+		tree8 = new KTree<>(input10, 2);
+		if (tree8.toStringPreOrder().equals("0 1 4 2 5")) {
+			System.out.println("You passed test 2!");
+		}
+
+		tree8.set(4, null);
+		if (tree8.toStringPreOrder().equals("0 1 2 5")) {
+			System.out.println("You passed test 3!");
+		}
+
+		tree8.set(5, null);
+		if (tree8.toStringPreOrder().equals("0 1 2")) {
+			System.out.println("You passed test 4!");
+		}
+
+		tree8.set(1, null);
+		if (tree8.toStringPreOrder().equals("0 2")) {
+			System.out.println("You passed test 5!");
+		}
+
+		tree8.set(2, null);
+		if (tree8.toStringPreOrder().equals("0")) {
+			System.out.println("You passed test 6!");
+		}
+
+		// Iterator<E> getPostOrderIterator
+		System.out.println("\ngetPostOrderIterator Tests \n");
+
+		// check that nodes are returned in correct order
+		// check that empty tree returns null
+
+		tree8 = new KTree<>(input10, 2);
+		Iterator<Integer> itPost = tree8.getPostOrderIterator();
+		if (itPost.next() == 4 && itPost.next() == 1 && itPost.next() == 5 && itPost.next() == 2
+				&& itPost.next() == 0) {
+			System.out.println("You passed test 1!");
+		}
+
+		try {
+			System.out.println(itPost.next());
+		} catch (NullPointerException e) {
+			System.out.println("You passed test 2!");
+		}
+
+		tree8.set(4, null);
+		itPost = tree8.getPostOrderIterator();
+		if (itPost.next() == 1 && itPost.next() == 5 && itPost.next() == 2 && itPost.next() == 0) {
+			System.out.println("You passed test 3!");
+		}
+
+		try {
+			System.out.println(itPost.next());
+		} catch (NullPointerException e) {
+			System.out.println("You passed test 4!");
+		}
+
+		tree8.set(1, null);
+		itPost = tree8.getPostOrderIterator();
+		if (itPost.next() == 5 && itPost.next() == 2 && itPost.next() == 0) {
+			System.out.println("You passed test 5!");
+		}
+
+		try {
+			System.out.println(itPost.next());
+		} catch (NullPointerException e) {
+			System.out.println("You passed test 6!");
+		}
+
+		tree8.set(5, null);
+		itPost = tree8.getPostOrderIterator();
+		if (itPost.next() == 2 && itPost.next() == 0) {
+			System.out.println("You passed test 7!");
+		}
+
+		try {
+			System.out.println(itPost.next());
+		} catch (NullPointerException e) {
+			System.out.println("You passed test 8!");
+		}
+
+		// "B N _ A _"
+		Iterator<String> itPostString = tree.getPostOrderIterator();
+		if (itPostString.next().equals("B") && itPostString.next().equals("N") && itPostString.next().equals("_")
+				&& itPostString.next().equals("A") && itPostString.next().equals("_")) {
+			System.out.println("You passed test 9!");
+		}
+
+		try {
+			System.out.println(itPostString.next());
+		} catch (NullPointerException e) {
+			System.out.println("You passed test 10!");
+		}
+
+		// toStringPostOrder()
+
+		System.out.println("\ntoStringPostOrder Tests \n");
+		// check that string matches post order node order
+		tree8 = new KTree<>(input10, 2);
+		if (tree8.toStringPostOrder().equals("4 1 5 2 0")) {
+			System.out.println("You passed test 1!");
+		}
+		// check that empty tree returns null
+
+		tree8.set(4, null);
+		if (tree8.toStringPostOrder().equals("1 5 2 0")) {
+			System.out.println("You passed test 2!");
+		}
+
+		tree8.set(1, null);
+		if (tree8.toStringPostOrder().equals("5 2 0")) {
+			System.out.println("You passed test 3!");
+		}
+
+		tree8.set(5, null);
+		if (tree8.toStringPostOrder().equals("2 0")) {
+			System.out.println("You passed test 4!");
+		}
+
+		// decode(KTree<String> tree, String codedMessage)
+		System.out.println("\ndecode Tests \n");
+
+		// check that returned string matches decoded message
+
+		if (decode(new KTree<String>(new String[] { "_", "_", "A", "B", "N", null, null }, 2), "001011011")
+				.equals("BANANA")) {
+			System.out.println("You passed test 1!");
+		}
+
+		if (decode(
+				new KTree<String>(
+						new String[] { "_", "_", "_", "B", "S", null, null, "N", null, "A", null, null, null }, 3),
+				"2121012101200").equals("BANANAS")) {
+			System.out.println("You passed test 2!");
+		}
+
+		// public E[] subtree(int i)
+		System.out.println("\nsubtree Tests \n");
+
+		Object[] checkArray = tree.subtree(1);
+		String value1 = (String) checkArray[0];
+		String value2 = (String) checkArray[1];
+		String value3 = (String) checkArray[2];
+
+		if (value1.equals("_") && value2.equals("B") && value3.equals("N")) {
+			System.out.println("You passed test 1!");
+		}
+
+		tree7 = new KTree<>(input, 2);
+		checkArray = tree7.subtree(0);
+		passed = false;
+		for (int i = 0; i < checkArray.length; i++) {
+			if (checkArray[i] == input[i]) {
+				passed = true;
+			}
+		}
+		if (passed) {
+			System.out.println("You passed test 2!");
+		}
+
+		// public E[] mirror()
+		System.out.println("\nmirror Tests \n");
+
+		Integer[] finalInput = { 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12, 13, 14 };
+		Integer[] finalMirror = { 0, 2, 1, 6, 5, 4, 3, 14, 13, 12, 11, 10, 9, 8, 7 };
+
+		KTree<Integer> treeFinal = new KTree<>(finalInput, 2);
+
+		checkArray = treeFinal.mirror();
+		passed = false;
+		for (int i = 0; i < checkArray.length; i++) {
+			//System.out.println(checkArray[i]);
+			if (checkArray[i] == finalMirror[i]) {
+				passed = true;
+			}
+		}
+		if (passed) {
+			System.out.println("You passed test 1!");
+		}
+		
+		tree = new KTree<>(strings, 2);
+		String[] finalCheckStrings = {"_", "A", "_", null, null, "N", "B"};
+
+		
+		checkArray = tree.mirror();
+		
+		for (int i = 0; i < checkArray.length; i++) {
+			//System.out.println(checkArray[i]);
+			if (checkArray[i] == finalCheckStrings[i]) {
+				passed = true;
+			}
+		}
+		
+		if(passed){
+			System.out.println("You passed test 2!");
+		}
+		*/
+
+		methodSigCheck();
+	}
+
+	/****************************************/
+	/* DO NOT EDIT ANYTHING BELOW THIS LINE */
+	/****************************************/
+
+	public static void methodSigCheck() {
+		// This ensures that you've written your method signatures correctly
+		// and understand how to call the various methods from the assignment
+		// description.
+
+		String[] strings = { "_", "_", "A", "B", "N", null, null };
+
+		KTree<String> tree = new KTree<>(strings, 2);
+		int x = tree.getK(); // should return 2
+		int y = tree.size(); // should return 5
+		int z = tree.height(); // should return 2
+
+		String v = tree.get(0); // should be "_"
+		boolean b = tree.set(0, "x"); // should set the root to "x"
+		Object[] o = tree.toArray(); // should return [ "x", "_", "A", "B","N",
+										// null, null ]
+
+		String s = tree.toString(); // should be "x\n_ A\nB N null null"
+		String s2 = "" + tree; // should also be "x\n_ A\nB N null null"
+
+		Iterator<String> it1 = tree.getLevelOrderIterator(); // gets an iterator
+		Iterator<String> it2 = tree.getPreOrderIterator(); // gets an iterator
+		Iterator<String> it3 = tree.getPostOrderIterator(); // gets an iterator
+
+		String s3 = tree.toStringLevelOrder(); // should be "_ _ A B N"
+		String s4 = tree.toStringPreOrder(); // should be "_ _ B N A"
+		String s5 = tree.toStringPostOrder(); // should be "B N _ A _"
+
+		String s6 = decode(tree, "001011011"); // should be "BANANA"
+
+		Object[] o2 = tree.mirror(); // should return [ "x", "A", "_", null,
+										// null, "N", "B" ]
+		Object[] o3 = tree.subtree(1); // should return [ "_", "B", "N" ]
+	}
+}
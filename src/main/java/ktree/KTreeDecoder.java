@@ -0,0 +1,482 @@
+/**
+ * @author agent
+ * @version 10.18.2026
+ *
+ * This class decodes messages for a code tree much faster than
+ * KTree.decode(). It is built once from the tree and turns it into tables:
+ * every node holding "_" becomes a state, and for each state there is an
+ * entry telling what one digit does and an entry telling what two digits
+ * in a row do, which is the next state and the letters found on the way.
+ * Decoding then reads two digits at a time with one table lookup and never
+ * touches the tree again.
+ *
+ * Messages packed by KTreeEncoder.encodePacked() are decoded by
+ * decodePacked(), which reads the digits out of their bits for any k.
+ *
+ * A decoder never changes once it is built, so any number of threads can
+ * share one. decodeAll() uses this to decode many messages at once.
+ *
+ * A message can also be decoded as it is read from a stream or channel, a
+ * chunk at a time, with the letters written out as they are found. Only
+ * one chunk is held at a time, so a message of any length decodes in the
+ * same memory.
+ */
+package ktree;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Writer;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+public class KTreeDecoder {
+	// a pair table bigger than this is not built and one digit is read at a
+	// time instead
+	private static final int MAX_PAIR_ENTRIES = 1 << 22;
+
+	// entries of the tables that are not a state
+	private static final int INVALID = -1;
+
+	// the number of bytes read from a stream at a time
+	private static final int CHUNK_BYTES = 64 * 1024;
+
+	private final int k;
+	private final String[] letters;
+
+	// the letters as chars when every letter is one char long, or null
+	private final char[] letterChars;
+
+	// the fewest digits any letter takes
+	private final int shortestCode;
+
+	// for state s and digit d, next[s * k + d] is the next state, or the
+	// letter found as -(letter + 2), or INVALID
+	private final int[] next;
+
+	// for state s and digits d1 d2, pairs[(s * k + d1) * k + d2] is the state
+	// after both digits or INVALID, and the letters found on the way are in
+	// firstLetter and secondLetter, -1 if there is none
+	private final int[] pairs;
+	private final int[] firstLetter;
+	private final int[] secondLetter;
+
+	// the digit of each ASCII character, -1 for none
+	private final byte[] digits = new byte[128];
+
+	/**
+	 * Builds the tables for a code tree.
+	 *
+	 * @param tree
+	 *            the tree containing the letters in the message
+	 */
+	public KTreeDecoder(KTree<String> tree) {
+		this.k = tree.getK();
+		// the nodes themselves are walked rather than the array of the tree,
+		// which for a deep, lopsided tree has far more slots than nodes
+		Map<Integer, String> nodes = tree.levelOrderNodes();
+
+		// number the "_" nodes in level order, the root being state 0
+		Map<Integer, Integer> stateOf = new HashMap<>();
+		for (Map.Entry<Integer, String> node : nodes.entrySet()) {
+			if ("_".equals(node.getValue())) {
+				stateOf.put(node.getKey(), stateOf.size());
+			}
+		}
+		int states = stateOf.size();
+		if (states == 0 || !stateOf.containsKey(0)) {
+			throw new IllegalArgumentException("The root of a code tree must be \"_\"!");
+		}
+
+		// give each letter a number and fill in the one digit table
+		next = new int[states * k];
+		Arrays.fill(next, INVALID);
+		String[] found = new String[nodes.size()];
+		int letterCount = 0;
+		int shortest = Integer.MAX_VALUE;
+		for (Map.Entry<Integer, Integer> parent : stateOf.entrySet()) {
+			int state = parent.getValue();
+			for (int d = 0; d < k; d++) {
+				long child = (long) parent.getKey() * k + 1 + d;
+				String letter = child > Integer.MAX_VALUE ? null : nodes.get((int) child);
+				if (letter == null) {
+					continue;
+				}
+				Integer childState = stateOf.get((int) child);
+				if (childState != null) {
+					next[state * k + d] = childState;
+				} else {
+					shortest = Math.min(shortest, TreeIndex.levelOf((int) child, k));
+					found[letterCount] = letter;
+					next[state * k + d] = -(letterCount + 2);
+					letterCount++;
+				}
+			}
+		}
+		letters = Arrays.copyOf(found, letterCount);
+		shortestCode = shortest;
+		char[] chars = new char[letterCount];
+		for (int l = 0; l < letterCount && chars != null; l++) {
+			if (letters[l].length() == 1) {
+				chars[l] = letters[l].charAt(0);
+			} else {
+				chars = null;
+			}
+		}
+		letterChars = chars;
+
+		// fill in the two digit table from the one digit table
+		if ((long) states * k * k <= MAX_PAIR_ENTRIES) {
+			pairs = new int[states * k * k];
+			firstLetter = new int[pairs.length];
+			secondLetter = new int[pairs.length];
+			for (int s = 0; s < states; s++) {
+				for (int d1 = 0; d1 < k; d1++) {
+					for (int d2 = 0; d2 < k; d2++) {
+						int entry = (s * k + d1) * k + d2;
+						int first = -1;
+						int second = -1;
+						int state = next[s * k + d1];
+						if (state < INVALID) {
+							first = -state - 2;
+							state = 0;
+						}
+						if (state != INVALID) {
+							state = next[state * k + d2];
+							if (state < INVALID) {
+								second = -state - 2;
+								state = 0;
+							}
+						}
+						pairs[entry] = state;
+						firstLetter[entry] = first;
+						secondLetter[entry] = second;
+					}
+				}
+			}
+		} else {
+			pairs = null;
+			firstLetter = null;
+			secondLetter = null;
+		}
+
+		for (char c = 0; c < digits.length; c++) {
+			int digit = Character.getNumericValue(c);
+			digits[c] = (byte) (digit >= 0 && digit < k ? digit : -1);
+		}
+	}
+
+	/**
+	 *
+	 * @return the branching factor of the code tree, k
+	 */
+	public int getK() {
+		return this.k;
+	}
+
+	/**
+	 * @param c
+	 *            a character of a coded message
+	 * @return the digit the character stands for
+	 * @throws IllegalArgumentException
+	 *             if the character is not a digit below k
+	 */
+	private int digit(char c) {
+		int digit = c < digits.length ? digits[c] : -1;
+		if (digit < 0) {
+			throw new IllegalArgumentException("Node not in tree!");
+		}
+		return digit;
+	}
+
+	/**
+	 *
+	 * @param codedMessage
+	 *            the "instructions" for getting the letters of the message
+	 * @return a String of the decoded messaged
+	 */
+	public String decode(CharSequence codedMessage) {
+		if (letterChars != null && pairs != null) {
+			return decodeChars(codedMessage);
+		}
+		StringBuilder decoded = new StringBuilder(codedMessage.length());
+		decode(codedMessage, 0, decoded);
+		return decoded.toString();
+	}
+
+	/**
+	 * Decodes a message straight into a char array when every letter is one
+	 * char long. No letter takes fewer digits than the shortest code, so the
+	 * array is never too small.
+	 *
+	 * @param codedMessage
+	 *            the "instructions" for getting the letters of the message
+	 * @return a String of the decoded messaged
+	 */
+	private String decodeChars(CharSequence codedMessage) {
+		int length = codedMessage.length();
+		char[] decoded = new char[length / shortestCode + 1];
+		int count = 0;
+		int state = 0;
+		int i = 0;
+		for (; i + 1 < length; i += 2) {
+			int entry = (state * k + digit(codedMessage.charAt(i))) * k + digit(codedMessage.charAt(i + 1));
+			state = pairs[entry];
+			if (state == INVALID) {
+				throw new IllegalArgumentException("Node not in tree!");
+			}
+			int first = firstLetter[entry];
+			if (first >= 0) {
+				decoded[count++] = letterChars[first];
+			}
+			int second = secondLetter[entry];
+			if (second >= 0) {
+				decoded[count++] = letterChars[second];
+			}
+		}
+		if (i < length) {
+			state = next[state * k + digit(codedMessage.charAt(i))];
+			if (state == INVALID) {
+				throw new IllegalArgumentException("Node not in tree!");
+			}
+			if (state < INVALID) {
+				decoded[count++] = letterChars[-state - 2];
+			}
+		}
+		return new String(decoded, 0, count);
+	}
+
+	/**
+	 * Decodes a message into a builder, starting from a state left by an
+	 * earlier part of the message. A letter whose code is cut off at the end
+	 * of the message is dropped, as KTree.decode() does, unless the state is
+	 * passed on to decode the rest.
+	 *
+	 * @param codedMessage
+	 *            the "instructions" for getting the letters of the message
+	 * @param state
+	 *            the state to start in, 0 for the root
+	 * @param decoded
+	 *            where the letters are added
+	 * @return the state at the end of the message
+	 * @throws IllegalArgumentException
+	 *             if the message leads to a node that is not in the tree
+	 */
+	int decode(CharSequence codedMessage, int state, StringBuilder decoded) {
+		int length = codedMessage.length();
+		int i = 0;
+		if (pairs != null) {
+			for (; i + 1 < length; i += 2) {
+				int entry = (state * k + digit(codedMessage.charAt(i))) * k + digit(codedMessage.charAt(i + 1));
+				state = pairs[entry];
+				if (firstLetter[entry] >= 0) {
+					decoded.append(letters[firstLetter[entry]]);
+				}
+				if (state == INVALID) {
+					throw new IllegalArgumentException("Node not in tree!");
+				}
+				if (secondLetter[entry] >= 0) {
+					decoded.append(letters[secondLetter[entry]]);
+				}
+			}
+		}
+		for (; i < length; i++) {
+			state = next[state * k + digit(codedMessage.charAt(i))];
+			if (state == INVALID) {
+				throw new IllegalArgumentException("Node not in tree!");
+			}
+			if (state < INVALID) {
+				decoded.append(letters[-state - 2]);
+				state = 0;
+			}
+		}
+		return state;
+	}
+
+	/**
+	 * Decodes a message packed by KTreeEncoder.encodePacked(). The digits are
+	 * read straight out of the bits, so this works for any k.
+	 *
+	 * @param packed
+	 *            the packed coded message
+	 * @return a String of the decoded messaged
+	 * @throws IllegalArgumentException
+	 *             if the bytes are not a packed message or it leads to a node
+	 *             that is not in the tree
+	 */
+	public String decodePacked(byte[] packed) {
+		return decodePacked(ByteBuffer.wrap(packed));
+	}
+
+	/**
+	 * Decodes a packed message held in a buffer, from its position to its
+	 * limit. The position of the buffer is not moved.
+	 *
+	 * @param packed
+	 *            the packed coded message
+	 * @return a String of the decoded messaged
+	 * @throws IllegalArgumentException
+	 *             if the bytes are not a packed message or it leads to a node
+	 *             that is not in the tree
+	 */
+	public String decodePacked(ByteBuffer packed) {
+		PackedCode.Unpacker digits = new PackedCode.Unpacker(packed, k);
+		StringBuilder decoded = new StringBuilder(digits.digits() / shortestCode + 1);
+		int state = 0;
+		while (digits.hasNext()) {
+			int digit = digits.next();
+			state = digit < k ? next[state * k + digit] : INVALID;
+			if (state == INVALID) {
+				throw new IllegalArgumentException("Node not in tree!");
+			}
+			if (state < INVALID) {
+				decoded.append(letters[-state - 2]);
+				state = 0;
+			}
+		}
+		return decoded.toString();
+	}
+
+	/**
+	 * Decodes many messages on the threads of an executor. The messages are
+	 * split into a few batches for each processor so each task decodes many
+	 * messages, and each task writes its results straight into its part of
+	 * the list that is returned. The messages are copied to an array first
+	 * so a task finds each one at once whatever kind of list is given.
+	 *
+	 * @param codedMessages
+	 *            the messages to decode
+	 * @param executor
+	 *            the threads to decode on, for example a ForkJoinPool
+	 * @return the decoded messages in the same order as the coded ones
+	 * @throws IllegalArgumentException
+	 *             if a message leads to a node that is not in the tree
+	 */
+	public List<String> decodeAll(List<? extends CharSequence> codedMessages, ExecutorService executor) {
+		CharSequence[] messages = codedMessages.toArray(new CharSequence[0]);
+		int count = messages.length;
+		String[] decoded = new String[count];
+		int batches = Math.max(1, Math.min(count, Runtime.getRuntime().availableProcessors() * 4));
+		List<Future<?>> tasks = new ArrayList<>(batches);
+		for (int b = 0; b < batches; b++) {
+			int from = (int) ((long) count * b / batches);
+			int to = (int) ((long) count * (b + 1) / batches);
+			tasks.add(executor.submit(() -> {
+				for (int m = from; m < to; m++) {
+					decoded[m] = decode(messages[m]);
+				}
+			}));
+		}
+		try {
+			for (Future<?> task : tasks) {
+				task.get();
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			for (Future<?> task : tasks) {
+				task.cancel(true);
+			}
+			throw new IllegalStateException("Interrupted while decoding!", e);
+		} catch (ExecutionException e) {
+			for (Future<?> task : tasks) {
+				task.cancel(true);
+			}
+			if (e.getCause() instanceof RuntimeException) {
+				throw (RuntimeException) e.getCause();
+			}
+			throw (Error) e.getCause();
+		}
+		return Arrays.asList(decoded);
+	}
+
+	/**
+	 * Decodes many messages on the common ForkJoinPool.
+	 *
+	 * @param codedMessages
+	 *            the messages to decode
+	 * @return the decoded messages in the same order as the coded ones
+	 * @throws IllegalArgumentException
+	 *             if a message leads to a node that is not in the tree
+	 */
+	public List<String> decodeAll(List<? extends CharSequence> codedMessages) {
+		return codedMessages.parallelStream().map(this::decode).collect(Collectors.toList());
+	}
+
+	/**
+	 * Decodes a stream of messages as they come. The stream keeps its order
+	 * and runs in parallel if the stream given does.
+	 *
+	 * @param codedMessages
+	 *            the messages to decode
+	 * @return a stream of the decoded messages
+	 */
+	public Stream<String> decodeAll(Stream<? extends CharSequence> codedMessages) {
+		return codedMessages.map(this::decode);
+	}
+
+	/**
+	 * Decodes a message read from a stream, writing the letters out as they
+	 * are found. Whitespace between the digits, such as line breaks, is
+	 * skipped. Neither the stream nor the writer is closed.
+	 *
+	 * @param codedMessage
+	 *            the stream the "instructions" are read from as ASCII digits
+	 * @param decoded
+	 *            where the letters are written
+	 * @throws IOException
+	 *             if the stream cannot be read or the writer written to
+	 * @throws IllegalArgumentException
+	 *             if the message leads to a node that is not in the tree
+	 */
+	public void decode(InputStream codedMessage, Writer decoded) throws IOException {
+		decode(Channels.newChannel(codedMessage), decoded);
+	}
+
+	/**
+	 * Decodes a message read from a channel, writing the letters out as they
+	 * are found. The position in the tree is kept from one chunk to the next,
+	 * so a letter whose code is split between chunks is still found.
+	 * Whitespace between the digits, such as line breaks, is skipped.
+	 * Neither the channel nor the writer is closed.
+	 *
+	 * @param codedMessage
+	 *            the channel the "instructions" are read from as ASCII digits
+	 * @param decoded
+	 *            where the letters are written
+	 * @throws IOException
+	 *             if the channel cannot be read or the writer written to
+	 * @throws IllegalArgumentException
+	 *             if the message leads to a node that is not in the tree
+	 */
+	public void decode(ReadableByteChannel codedMessage, Writer decoded) throws IOException {
+		ByteBuffer chunk = ByteBuffer.allocate(CHUNK_BYTES);
+		StringBuilder digitChunk = new StringBuilder(CHUNK_BYTES);
+		StringBuilder letterChunk = new StringBuilder(CHUNK_BYTES);
+		int state = 0;
+		while (codedMessage.read(chunk) >= 0) {
+			chunk.flip();
+			while (chunk.hasRemaining()) {
+				char c = (char) (chunk.get() & 0xFF);
+				if (!Character.isWhitespace(c)) {
+					digitChunk.append(c);
+				}
+			}
+			chunk.clear();
+			state = decode(digitChunk, state, letterChunk);
+			decoded.append(letterChunk);
+			digitChunk.setLength(0);
+			letterChunk.setLength(0);
+		}
+		decoded.flush();
+	}
+}
@@ -0,0 +1,245 @@
+/**
+ * @author agent
+ * @version 10.18.2026
+ *
+ * This class turns text into the coded messages that KTree.decode() reads.
+ * It is built once from a code tree, finding the path from the root to
+ * every letter in a single walk of the tree, and then encodes text by
+ * looking up the code of each letter. A letter that is in the tree more
+ * than once is given its shortest code.
+ *
+ * The letters in a code tree can be longer than one char. The text is then
+ * split by taking the longest letter that matches at each point.
+ *
+ * Text can also be encoded into the packed form of PackedCode, which takes
+ * fewer bits a digit and works for any k, where codes written as chars
+ * only work up to k = 36.
+ */
+package ktree;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+public class KTreeEncoder {
+	private final int k;
+
+	// the number of each letter, which indexes paths and codes
+	private final Map<String, Integer> letterNumbers = new HashMap<>();
+
+	// the number of each one char letter below 128, or -1, for speed
+	private final int[] asciiLetters = new int[128];
+
+	// the digits of the path to each letter
+	private final int[][] paths;
+
+	// the path to each letter written as chars, or null if k is above 36
+	private final String[] codes;
+
+	// the length of the longest letter
+	private final int longestLetter;
+
+	// the number of digits in the longest code
+	private final int longestCode;
+
+	/**
+	 * Finds the code of every letter in a code tree.
+	 *
+	 * @param tree
+	 *            the tree containing the letters
+	 */
+	public KTreeEncoder(KTree<String> tree) {
+		this.k = tree.getK();
+		Map<Integer, String> nodes = tree.levelOrderNodes();
+		Arrays.fill(asciiLetters, -1);
+
+		// walk the nodes in level order so the first code found for a letter
+		// is the shortest; pathOf holds the path to each "_" node
+		Map<Integer, int[]> pathOf = new HashMap<>();
+		int[][] found = new int[nodes.size()][];
+		int letterCount = 0;
+		int longest = 0;
+		int longestPath = 0;
+		if ("_".equals(nodes.get(0))) {
+			pathOf.put(0, new int[0]);
+		}
+		for (Map.Entry<Integer, String> node : nodes.entrySet()) {
+			int i = node.getKey();
+			int[] parentPath = i == 0 ? null : pathOf.get(TreeIndex.parent(i, k));
+			if (parentPath == null) {
+				continue;
+			}
+			int[] path = Arrays.copyOf(parentPath, parentPath.length + 1);
+			path[path.length - 1] = (i - 1) % k;
+			String letter = node.getValue();
+			if (letter.equals("_")) {
+				pathOf.put(i, path);
+			} else if (!letterNumbers.containsKey(letter)) {
+				letterNumbers.put(letter, letterCount);
+				found[letterCount] = path;
+				longest = Math.max(longest, letter.length());
+				longestPath = Math.max(longestPath, path.length);
+				if (letter.length() == 1 && letter.charAt(0) < asciiLetters.length) {
+					asciiLetters[letter.charAt(0)] = letterCount;
+				}
+				letterCount++;
+			}
+		}
+		this.paths = Arrays.copyOf(found, letterCount);
+		this.longestLetter = longest;
+		this.longestCode = longestPath;
+
+		if (k <= Character.MAX_RADIX) {
+			codes = new String[letterCount];
+			for (int l = 0; l < letterCount; l++) {
+				StringBuilder code = new StringBuilder(paths[l].length);
+				for (int digit : paths[l]) {
+					code.append(Character.forDigit(digit, k));
+				}
+				codes[l] = code.toString();
+			}
+		} else {
+			codes = null;
+		}
+	}
+
+	/**
+	 *
+	 * @return the branching factor of the code tree, k
+	 */
+	public int getK() {
+		return this.k;
+	}
+
+	/**
+	 * @throws IllegalArgumentException
+	 *             if k is too big for its digits to be written as one char,
+	 *             which is above 36
+	 */
+	private void checkDigits() {
+		if (codes == null) {
+			throw new IllegalArgumentException("Codes for k above 36 cannot be written as digits!");
+		}
+	}
+
+	/**
+	 * @param letter
+	 *            a letter of the code tree
+	 * @return the code of the letter, or null if it is not in the tree
+	 * @throws IllegalArgumentException
+	 *             if k is above 36
+	 */
+	public String getCode(String letter) {
+		checkDigits();
+		Integer number = letterNumbers.get(letter);
+		return number == null ? null : codes[number];
+	}
+
+	/**
+	 * @param letter
+	 *            a letter of the code tree
+	 * @return the digits of the path from the root to the letter, or null if
+	 *         it is not in the tree
+	 */
+	public int[] getPath(String letter) {
+		Integer number = letterNumbers.get(letter);
+		return number == null ? null : paths[number].clone();
+	}
+
+	/**
+	 * Finds the letter that starts at a point in the text.
+	 *
+	 * @param text
+	 *            the text being encoded
+	 * @param i
+	 *            where the letter starts
+	 * @return the number of the letter in the high half and the number of
+	 *         chars it takes in the low half
+	 * @throws IllegalArgumentException
+	 *             if no letter starts there
+	 */
+	private long letterAt(CharSequence text, int i) {
+		char c = text.charAt(i);
+		if (longestLetter == 1 && c < asciiLetters.length && asciiLetters[c] >= 0) {
+			return ((long) asciiLetters[c] << 32) | 1;
+		}
+		// try the longest letter that could start here first
+		for (int used = Math.min(longestLetter, text.length() - i); used > 0; used--) {
+			Integer number = letterNumbers.get(text.subSequence(i, i + used).toString());
+			if (number != null) {
+				return ((long) number << 32) | used;
+			}
+		}
+		throw new IllegalArgumentException("Letter not in tree!");
+	}
+
+	/**
+	 * @param text
+	 *            the text to encode
+	 * @return the most digits the text can be coded into, kept below the
+	 *         biggest array size
+	 */
+	private int codedLength(CharSequence text) {
+		return (int) Math.min(Integer.MAX_VALUE - 8, (long) text.length() * longestCode);
+	}
+
+	/**
+	 *
+	 * @param text
+	 *            the text to encode
+	 * @return the coded message, which KTree.decode() turns back into the
+	 *         text
+	 * @throws IllegalArgumentException
+	 *             if part of the text is not a letter in the tree or k is
+	 *             above 36
+	 */
+	public String encode(CharSequence text) {
+		StringBuilder coded = new StringBuilder(codedLength(text));
+		encode(text, coded);
+		return coded.toString();
+	}
+
+	/**
+	 * Encodes text onto the end of a builder.
+	 *
+	 * @param text
+	 *            the text to encode
+	 * @param coded
+	 *            where the coded message is added
+	 * @throws IllegalArgumentException
+	 *             if part of the text is not a letter in the tree or k is
+	 *             above 36
+	 */
+	public void encode(CharSequence text, StringBuilder coded) {
+		checkDigits();
+		int i = 0;
+		while (i < text.length()) {
+			long letter = letterAt(text, i);
+			coded.append(codes[(int) (letter >>> 32)]);
+			i += (int) letter;
+		}
+	}
+
+	/**
+	 * Encodes text into the packed form, which KTreeDecoder.decodePacked()
+	 * turns back into the text.
+	 *
+	 * @param text
+	 *            the text to encode
+	 * @return the packed coded message
+	 * @throws IllegalArgumentException
+	 *             if part of the text is not a letter in the tree
+	 */
+	public byte[] encodePacked(CharSequence text) {
+		PackedCode.Packer packer = new PackedCode.Packer(k, codedLength(text));
+		int i = 0;
+		while (i < text.length()) {
+			long letter = letterAt(text, i);
+			for (int digit : paths[(int) (letter >>> 32)]) {
+				packer.add(digit);
+			}
+			i += (int) letter;
+		}
+		return packer.toByteArray();
+	}
+}
@@ -0,0 +1,180 @@
+/**
+ * @author agent
+ * @version 10.18.2026
+ *
+ * This class builds code trees from how often each letter is used, so that
+ * common letters get short codes and the coded messages are as short as
+ * they can be. It uses Huffman's method for k children: the k least used
+ * letters or groups are put under a new "_" node again and again until one
+ * node is left. If the letters do not fill the last group, unused letters
+ * are added first so every group is full and the shortest codes are not
+ * wasted; they are left out of the tree. The tree made uses "_" for every
+ * node that is not a letter, so it works with KTree.decode(), KTreeDecoder
+ * and KTreeEncoder.
+ */
+package ktree;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.TreeMap;
+
+public class KTreeHuffman {
+	/**
+	 * A letter or a group of letters waiting to be put under a node.
+	 */
+	private static final class Group {
+		final long weight;
+		final int order;
+		final String letter;
+		final List<Group> children;
+
+		/**
+		 * @param weight
+		 *            how often the letters in the group are used in all
+		 * @param order
+		 *            when the group was made, which breaks ties so the same
+		 *            frequencies always give the same tree
+		 * @param letter
+		 *            the letter, or null for a group or an unused letter
+		 * @param children
+		 *            the groups under this one, or null for a letter
+		 */
+		Group(long weight, int order, String letter, List<Group> children) {
+			this.weight = weight;
+			this.order = order;
+			this.letter = letter;
+			this.children = children;
+		}
+	}
+
+	/**
+	 * This class only has static methods.
+	 */
+	private KTreeHuffman() {
+	}
+
+	/**
+	 * Builds the code tree giving the shortest coded messages for letters
+	 * used as often as given.
+	 *
+	 * @param frequencies
+	 *            how often each letter is used
+	 * @param k
+	 *            is the branching factor of the tree
+	 * @return the code tree
+	 * @throws IllegalArgumentException
+	 *             if there are no letters, a letter is null, empty or "_", a
+	 *             frequency is negative or the tree is too deep to index
+	 */
+	public static KTree<String> build(Map<String, Long> frequencies, int k) {
+		if (k < 2) {
+			throw new InvalidKException();
+		}
+		if (frequencies.isEmpty()) {
+			throw new IllegalArgumentException("No letters to build a tree from!");
+		}
+		for (String letter : frequencies.keySet()) {
+			if (letter == null) {
+				throw new IllegalArgumentException("null cannot be a letter!");
+			}
+		}
+
+		// start with the letters sorted so the tree does not depend on the
+		// order of the map
+		PriorityQueue<Group> queue = new PriorityQueue<>(
+				Comparator.comparingLong((Group g) -> g.weight).thenComparingInt(g -> g.order));
+		int order = 0;
+		for (Map.Entry<String, Long> entry : new TreeMap<>(frequencies).entrySet()) {
+			String letter = entry.getKey();
+			if (letter.isEmpty() || letter.equals("_")) {
+				throw new IllegalArgumentException("\"" + letter + "\" cannot be a letter!");
+			}
+			if (entry.getValue() == null || entry.getValue() < 0) {
+				throw new IllegalArgumentException("Frequencies cannot be negative!");
+			}
+			queue.add(new Group(entry.getValue(), order++, letter, null));
+		}
+
+		// pad with unused letters so every group made is full, and always
+		// make at least one group so a single letter gets a code
+		int padding = frequencies.size() == 1 ? k - 1 : (k - 1 - (frequencies.size() - 1) % (k - 1)) % (k - 1);
+		for (int p = 0; p < padding; p++) {
+			queue.add(new Group(0, -1 - p, null, null));
+		}
+
+		while (queue.size() > 1) {
+			List<Group> children = new ArrayList<>(k);
+			long weight = 0;
+			for (int c = 0; c < k; c++) {
+				Group child = queue.poll();
+				weight += child.weight;
+				children.add(child);
+			}
+			// the more used groups take the lower digits and the unused
+			// letters the last ones, where they leave no gaps
+			children.sort(Comparator.comparing((Group g) -> g.letter == null && g.children == null)
+					.thenComparing(Comparator.comparingLong((Group g) -> g.weight).reversed()));
+			queue.add(new Group(weight, order++, null, children));
+		}
+
+		// give every group and letter its index and add them all at once
+		List<Integer> indices = new ArrayList<>();
+		List<String> values = new ArrayList<>();
+		List<Group> level = new ArrayList<>();
+		List<Long> levelIndices = new ArrayList<>();
+		level.add(queue.poll());
+		levelIndices.add(0L);
+		while (!level.isEmpty()) {
+			List<Group> below = new ArrayList<>();
+			List<Long> belowIndices = new ArrayList<>();
+			for (int g = 0; g < level.size(); g++) {
+				Group group = level.get(g);
+				long index = levelIndices.get(g);
+				if (index > Integer.MAX_VALUE) {
+					throw new IllegalArgumentException("Tree too deep for an array!");
+				}
+				indices.add((int) index);
+				values.add(group.children == null ? group.letter : "_");
+				if (group.children != null) {
+					for (int c = 0; c < group.children.size(); c++) {
+						Group child = group.children.get(c);
+						if (child.letter != null || child.children != null) {
+							below.add(child);
+							belowIndices.add(index * k + 1 + c);
+						}
+					}
+				}
+			}
+			level = below;
+			levelIndices = belowIndices;
+		}
+
+		KTree<String> tree = new KTree<>(new String[] { "_" }, k);
+		int[] indexArray = new int[indices.size()];
+		for (int i = 0; i < indexArray.length; i++) {
+			indexArray[i] = indices.get(i);
+		}
+		tree.setAll(indexArray, values.toArray(new String[0]));
+		return tree;
+	}
+
+	/**
+	 * Counts how often each char is used in a text, for building a tree with
+	 * one char letters.
+	 *
+	 * @param text
+	 *            the text to count
+	 * @return how often each char in the text is used
+	 */
+	public static Map<String, Long> frequencies(CharSequence text) {
+		Map<String, Long> counts = new HashMap<>();
+		for (int i = 0; i < text.length(); i++) {
+			counts.merge(String.valueOf(text.charAt(i)), 1L, Long::sum);
+		}
+		return counts;
+	}
+}
@@ -0,0 +1,340 @@
+/**
+ * @author agent
+ * @version 10.18.2026
+ *
+ * This class reads a tree straight out of a file written by write(). The
+ * file is mapped into memory when it is opened and every value is read from
+ * the mapping when it is asked for, so opening a tree takes the same time
+ * no matter how big it is. The tree is read only.
+ *
+ * The file holds a header (the magic number, the version of the format, k,
+ * the size, the height and the number of slots as ints), then a long for
+ * every slot in level order giving where its value starts in the value
+ * section or -1 if the slot has no node, then the value section where each
+ * value is its length in bytes followed by its UTF-8 bytes. A single
+ * mapping can be at most 2 GB, so the file is mapped in pieces of 1 GB and
+ * a value that crosses from one piece to the next is read from both.
+ */
+package ktree;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Iterator;
+import java.util.PrimitiveIterator;
+
+public class MappedKTree implements TreeIterable<String> {
+	private static final int MAGIC = 0x4B545245;
+	private static final int VERSION = 2;
+	private static final int HEADER_BYTES = 6 * Integer.BYTES;
+	private static final int SEGMENT_BYTES = 1 << 30;
+
+	private MappedByteBuffer[] segments;
+	private int segmentBytes;
+	private int k;
+	private int size;
+	private int height;
+	private int slotCount;
+	private long valuesStart;
+
+	/**
+	 * @param segments
+	 *            the mapped pieces of the file holding the tree, all but the
+	 *            last segmentBytes long
+	 * @param segmentBytes
+	 *            the length of each piece
+	 * @param length
+	 *            the length of the file
+	 * @throws IOException
+	 *             if the file is not a tree written by write()
+	 */
+	private MappedKTree(MappedByteBuffer[] segments, int segmentBytes, long length) throws IOException {
+		this.segments = segments;
+		this.segmentBytes = segmentBytes;
+		if (length < HEADER_BYTES || readInt(0) != MAGIC) {
+			throw new IOException("Not a KTree file!");
+		}
+		if (readInt(4) != VERSION) {
+			throw new IOException("Unknown KTree file version " + readInt(4) + "!");
+		}
+		this.k = readInt(8);
+		this.size = readInt(12);
+		this.height = readInt(16);
+		this.slotCount = readInt(20);
+		this.valuesStart = HEADER_BYTES + (long) slotCount * Long.BYTES;
+		if (k < 2 || slotCount < 0 || valuesStart > length) {
+			throw new IOException("Not a KTree file!");
+		}
+	}
+
+	/**
+	 * Maps a tree file into memory. Only the header is read.
+	 *
+	 * @param path
+	 *            the file written by write()
+	 * @return the tree in the file
+	 * @throws IOException
+	 *             if the file cannot be read or is not a tree file
+	 */
+	public static MappedKTree open(Path path) throws IOException {
+		return open(path, SEGMENT_BYTES);
+	}
+
+	/**
+	 * @param path
+	 *            the file written by write()
+	 * @param segmentBytes
+	 *            the length of each piece the file is mapped in
+	 * @return the tree in the file
+	 * @throws IOException
+	 *             if the file cannot be read or is not a tree file
+	 */
+	static MappedKTree open(Path path, int segmentBytes) throws IOException {
+		if (segmentBytes < 1) {
+			throw new IllegalArgumentException("A piece must hold at least one byte!");
+		}
+		try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+			long length = channel.size();
+			MappedByteBuffer[] segments = new MappedByteBuffer[(int) ((length + segmentBytes - 1) / segmentBytes)];
+			for (int s = 0; s < segments.length; s++) {
+				long start = (long) s * segmentBytes;
+				segments[s] = channel.map(FileChannel.MapMode.READ_ONLY, start, Math.min(segmentBytes, length - start));
+			}
+			return new MappedKTree(segments, segmentBytes, length);
+		}
+	}
+
+	/**
+	 * @param position
+	 *            where the bytes start in the file
+	 * @param bytes
+	 *            filled with the bytes of the file from that position on
+	 */
+	private void read(long position, byte[] bytes) {
+		int done = 0;
+		while (done < bytes.length) {
+			MappedByteBuffer segment = segments[(int) (position / segmentBytes)];
+			int offset = (int) (position % segmentBytes);
+			int count = Math.min(bytes.length - done, segment.capacity() - offset);
+			segment.get(offset, bytes, done, count);
+			done += count;
+			position += count;
+		}
+	}
+
+	/**
+	 * @param position
+	 *            where the int starts in the file
+	 * @return the int at that position
+	 */
+	private int readInt(long position) {
+		MappedByteBuffer segment = segments[(int) (position / segmentBytes)];
+		int offset = (int) (position % segmentBytes);
+		if (offset + Integer.BYTES <= segment.capacity()) {
+			return segment.getInt(offset);
+		}
+		byte[] bytes = new byte[Integer.BYTES];
+		read(position, bytes);
+		return ByteBuffer.wrap(bytes).getInt();
+	}
+
+	/**
+	 * @param position
+	 *            where the long starts in the file
+	 * @return the long at that position
+	 */
+	private long readLong(long position) {
+		MappedByteBuffer segment = segments[(int) (position / segmentBytes)];
+		int offset = (int) (position % segmentBytes);
+		if (offset + Long.BYTES <= segment.capacity()) {
+			return segment.getLong(offset);
+		}
+		byte[] bytes = new byte[Long.BYTES];
+		read(position, bytes);
+		return ByteBuffer.wrap(bytes).getLong();
+	}
+
+	/**
+	 * Writes a tree to a file that open() can map. The value of each node is
+	 * written as the String it turns into.
+	 *
+	 * @param tree
+	 *            the tree to write
+	 * @param path
+	 *            the file to write it to
+	 * @throws IOException
+	 *             if the file cannot be written
+	 */
+	public static void write(KTree<?> tree, Path path) throws IOException {
+		Object[] slots = tree.toArray();
+		byte[][] encoded = new byte[slots.length][];
+		for (int i = 0; i < slots.length; i++) {
+			if (slots[i] != null) {
+				encoded[i] = String.valueOf(slots[i]).getBytes(StandardCharsets.UTF_8);
+			}
+		}
+		try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(path)))) {
+			out.writeInt(MAGIC);
+			out.writeInt(VERSION);
+			out.writeInt(tree.getK());
+			out.writeInt(tree.size());
+			out.writeInt(tree.height());
+			out.writeInt(slots.length);
+			long offset = 0;
+			for (int i = 0; i < slots.length; i++) {
+				if (encoded[i] == null) {
+					out.writeLong(-1);
+				} else {
+					out.writeLong(offset);
+					offset += Integer.BYTES + encoded[i].length;
+				}
+			}
+			for (int i = 0; i < slots.length; i++) {
+				if (encoded[i] != null) {
+					out.writeInt(encoded[i].length);
+					out.write(encoded[i]);
+				}
+			}
+		}
+	}
+
+	/**
+	 *
+	 * @return the branching factor of the tree, k
+	 */
+	public int getK() {
+		return this.k;
+	}
+
+	/**
+	 *
+	 * @return the size of the tree or how many nodes there are in it
+	 */
+	public int size() {
+		return this.size;
+	}
+
+	/**
+	 * @return the height of the tree or the number of edges from the root to
+	 *         the deepest leaf
+	 */
+	public int height() {
+		return this.height;
+	}
+
+	/**
+	 * @param i
+	 *            the index of a node
+	 * @return true if there is a node at the index
+	 */
+	public boolean contains(int i) {
+		return i >= 0 && i < slotCount && readLong(HEADER_BYTES + (long) i * Long.BYTES) >= 0;
+	}
+
+	/**
+	 *
+	 * @param i
+	 *            the index of the desired node
+	 * @return the value of the node at the indicated index
+	 */
+	public String get(int i) {
+		if (!contains(i)) {
+			throw new IllegalArgumentException("Node not in tree!");
+		}
+		long start = valuesStart + readLong(HEADER_BYTES + (long) i * Long.BYTES);
+		byte[] bytes = new byte[readInt(start)];
+		read(start + Integer.BYTES, bytes);
+		return new String(bytes, StandardCharsets.UTF_8);
+	}
+
+	/**
+	 * @return the tree as an array full of objects
+	 */
+	public Object[] toArray() {
+		Object[] tempArray = new Object[Math.max(slotCount, 1)];
+		for (int i = 0; i < slotCount; i++) {
+			if (contains(i)) {
+				tempArray[i] = get(i);
+			}
+		}
+		return tempArray;
+	}
+
+	/**
+	 * @return an iterator that traverses the tree in level order
+	 */
+	public Iterator<String> getLevelOrderIterator() {
+		return values(TreeIndex.levelOrder(this::contains, () -> slotCount));
+	}
+
+	/**
+	 * @return an iterator that traverses the tree in pre-order
+	 */
+	public Iterator<String> getPreOrderIterator() {
+		return values(TreeIndex.preOrder(this::contains, 0, k));
+	}
+
+	/**
+	 * @return an iterator that traverses the tree in post-order
+	 */
+	public Iterator<String> getPostOrderIterator() {
+		return values(TreeIndex.postOrder(this::contains, 0, k));
+	}
+
+	/**
+	 * @param indices
+	 *            an iterator over the indices of nodes
+	 * @return an iterator over the values at those indices
+	 */
+	private Iterator<String> values(PrimitiveIterator.OfInt indices) {
+		return new Iterator<String>() {
+			/**
+			 * @return true or false based on if there is another value
+			 */
+			public boolean hasNext() {
+				return indices.hasNext();
+			}
+
+			/**
+			 * @return the value of the next node in the tree
+			 */
+			public String next() {
+				return get(indices.nextInt());
+			}
+		};
+	}
+
+	/**
+	 *
+	 * @param tree
+	 *            the tree containing the letters in the message
+	 * @param codedMessage
+	 *            the "instructions" for getting the letters of the message
+	 * @return a String of the decoded messaged
+	 */
+	public static String decode(MappedKTree tree, String codedMessage) {
+		StringBuilder decoded = new StringBuilder();
+		int current = 0;
+		for (int i = 0; i < codedMessage.length(); i++) {
+			int digit = Character.getNumericValue(codedMessage.charAt(i));
+			long child = (long) current * tree.k + 1 + digit;
+			if (digit < 0 || digit >= tree.k || child > Integer.MAX_VALUE) {
+				throw new IllegalArgumentException("Node not in tree!");
+			}
+			current = (int) child;
+			String code = tree.get(current);
+			if (!code.equals("_")) {
+				decoded.append(code);
+				current = 0;
+			}
+		}
+		return decoded.toString();
+	}
+}
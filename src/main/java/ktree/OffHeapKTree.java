@@ -0,0 +1,350 @@
+/**
+ * @author agent
+ * @version 10.18.2026
+ *
+ * This class is a version of KTree for long values that keeps its slots
+ * outside of the Java heap. The values and a bit for each slot telling
+ * whether it holds a node live in direct ByteBuffers indexed like the array
+ * given to the KTree constructor, so the size of the tree does not add to
+ * the work of the garbage collector. The tree should be closed when it is
+ * no longer needed, which lets go of its buffers; their memory is given
+ * back once the garbage collector finds them, as it is for the old buffers
+ * left behind when the tree grows. The tree is not safe to use from more
+ * than one thread.
+ */
+package ktree;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.PrimitiveIterator;
+
+public class OffHeapKTree implements TreeIterable<Long>, AutoCloseable {
+	private static final int VALUE_BYTES = Long.BYTES;
+	private static final int MAX_CAPACITY = Integer.MAX_VALUE / VALUE_BYTES;
+
+	private ByteBuffer values;
+	private ByteBuffer present;
+	private int capacity;
+	private int k;
+	private int size;
+	private int height;
+	private int[] levelCounts;
+
+	/**
+	 * This constructs an empty tree with room for a number of slots
+	 *
+	 * @param capacity
+	 *            the number of slots to set aside, more are added as needed
+	 * @param k
+	 *            is the branching factor of the tree
+	 */
+	public OffHeapKTree(int capacity, int k) {
+		if (k < 2) {
+			throw new InvalidKException();
+		}
+		if (capacity > MAX_CAPACITY) {
+			throw new IllegalArgumentException("Too many slots for one buffer!");
+		}
+		this.k = k;
+		this.capacity = Math.max(capacity, 1);
+		this.values = allocate(this.capacity * VALUE_BYTES);
+		this.present = allocate(((this.capacity + 63) >>> 6) * Long.BYTES);
+		this.levelCounts = new int[TreeIndex.levelOf(this.capacity - 1, k) + 1];
+	}
+
+	/**
+	 * This constructs the tree using an input array and a branching factor k
+	 *
+	 * @param arrayTree
+	 *            this is the array that contains the values of the nodes for
+	 *            the tree. Their position in the array indicates their
+	 *            index/position in the tree and null means there is no node.
+	 * @param k
+	 *            is the branching factor of the tree
+	 */
+	public OffHeapKTree(Long[] arrayTree, int k) {
+		this(arrayTree.length, k);
+		for (int i = 0; i < arrayTree.length; i++) {
+			if (arrayTree[i] != null) {
+				values.putLong(i * VALUE_BYTES, arrayTree[i]);
+				addNode(i);
+			}
+		}
+	}
+
+	/**
+	 * This constructs a tree in which every slot of the input array is a node
+	 *
+	 * @param arrayTree
+	 *            this is the array that contains the values of the nodes for
+	 *            the tree. Their position in the array indicates their
+	 *            index/position in the tree.
+	 * @param k
+	 *            is the branching factor of the tree
+	 */
+	public OffHeapKTree(long[] arrayTree, int k) {
+		this(arrayTree.length, k);
+		for (int i = 0; i < arrayTree.length; i++) {
+			values.putLong(i * VALUE_BYTES, arrayTree[i]);
+			addNode(i);
+		}
+	}
+
+	/**
+	 * @param bytes
+	 *            the number of bytes needed
+	 * @return a zeroed direct buffer in the byte order of the machine
+	 */
+	private static ByteBuffer allocate(int bytes) {
+		return ByteBuffer.allocateDirect(bytes).order(ByteOrder.nativeOrder());
+	}
+
+	/**
+	 * @throws IllegalStateException
+	 *             if the tree has been closed
+	 */
+	private void checkOpen() {
+		if (values == null) {
+			throw new IllegalStateException("Tree is closed!");
+		}
+	}
+
+	/**
+	 *
+	 * @return the branching factor of the tree, k
+	 */
+	public int getK() {
+		checkOpen();
+		return this.k;
+	}
+
+	/**
+	 *
+	 * @return the size of the tree or how many nodes there are in it
+	 */
+	public int size() {
+		checkOpen();
+		return this.size;
+	}
+
+	/**
+	 * @return the height of the tree or the number of edges from the root to
+	 *         the deepest leaf
+	 */
+	public int height() {
+		checkOpen();
+		return this.height;
+	}
+
+	/**
+	 * @param i
+	 *            the index of a node
+	 * @return true if there is a node at the index
+	 */
+	public boolean contains(int i) {
+		checkOpen();
+		return i >= 0 && i < capacity && (present.getLong((i >>> 6) * Long.BYTES) & (1L << i)) != 0;
+	}
+
+	/**
+	 *
+	 * @param i
+	 *            the index of the desired node
+	 * @return the value of the node at the indicated index
+	 */
+	public long getLong(int i) {
+		if (!contains(i)) {
+			throw new IllegalArgumentException("Node not in tree!");
+		}
+		return values.getLong(i * VALUE_BYTES);
+	}
+
+	/**
+	 *
+	 * @param i
+	 *            the index of the desired node
+	 * @param value
+	 *            the value to give the desired node
+	 * @return true or false based on if the node is valid or able to be set
+	 */
+	public boolean setLong(int i, long value) {
+		checkOpen();
+		if (i < 0) {
+			return false;
+		}
+		if (i > 0 && !contains(TreeIndex.parent(i, k))) {
+			throw new InvalidTreeException();
+		}
+		addNode(i);
+		values.putLong(i * VALUE_BYTES, value);
+		return true;
+	}
+
+	/**
+	 *
+	 * @param i
+	 *            the index of the node to remove
+	 * @return true or false based on if the node was in the tree and had no
+	 *         children so it could be removed
+	 */
+	public boolean remove(int i) {
+		if (!contains(i)) {
+			return false;
+		}
+		long firstChild = (long) i * k + 1;
+		for (long child = firstChild; child < firstChild + k && child < capacity; child++) {
+			if (contains((int) child)) {
+				return false;
+			}
+		}
+		int word = (i >>> 6) * Long.BYTES;
+		present.putLong(word, present.getLong(word) & ~(1L << i));
+		int level = TreeIndex.levelOf(i, k);
+		levelCounts[level]--;
+		size--;
+		while (height > 0 && levelCounts[height] == 0) {
+			height--;
+		}
+		return true;
+	}
+
+	/**
+	 * Marks a slot as holding a node, making the buffers bigger if the slot
+	 * is past their end.
+	 *
+	 * @param i
+	 *            the index of the node
+	 */
+	private void addNode(int i) {
+		int level = TreeIndex.levelOf(i, k);
+		if (i >= capacity) {
+			int newCapacity = TreeIndex.arraySize(level, k);
+			if (newCapacity > MAX_CAPACITY) {
+				throw new IllegalArgumentException("Too many slots for one buffer!");
+			}
+			ByteBuffer biggerValues = allocate(newCapacity * VALUE_BYTES);
+			ByteBuffer biggerPresent = allocate(((newCapacity + 63) >>> 6) * Long.BYTES);
+			biggerValues.put(values.duplicate().clear());
+			biggerPresent.put(present.duplicate().clear());
+			values = biggerValues;
+			present = biggerPresent;
+			capacity = newCapacity;
+		}
+		if (!contains(i)) {
+			int word = (i >>> 6) * Long.BYTES;
+			present.putLong(word, present.getLong(word) | (1L << i));
+			if (level >= levelCounts.length) {
+				int[] biggerCounts = new int[level + 1];
+				System.arraycopy(levelCounts, 0, biggerCounts, 0, levelCounts.length);
+				levelCounts = biggerCounts;
+			}
+			levelCounts[level]++;
+			size++;
+			height = Math.max(height, level);
+		}
+	}
+
+	/**
+	 * @return the tree as an array with a slot for every position down to the
+	 *         height of the tree. Slots with no node hold 0, use contains() to
+	 *         tell them apart.
+	 */
+	public long[] toArray() {
+		checkOpen();
+		long[] tempArray = new long[TreeIndex.arraySize(height, k)];
+		for (int i = 0; i < tempArray.length && i < capacity; i++) {
+			if (contains(i)) {
+				tempArray[i] = values.getLong(i * VALUE_BYTES);
+			}
+		}
+		return tempArray;
+	}
+
+	/**
+	 * @return the tree as a String
+	 */
+	public String toString() {
+		if (!contains(0)) {
+			return null;
+		}
+		int end = TreeIndex.arraySize(height, k);
+		StringBuilder builder = new StringBuilder();
+		long rightMost = 0;
+		for (int i = 0; i < end; i++) {
+			if (i > 0) {
+				builder.append(i == rightMost + 1 ? '\n' : ' ');
+				if (i == rightMost + 1) {
+					rightMost = rightMost * k + k;
+				}
+			}
+			if (contains(i)) {
+				builder.append(values.getLong(i * VALUE_BYTES));
+			} else {
+				builder.append("null");
+			}
+		}
+		return builder.toString();
+	}
+
+	/**
+	 * @return an iterator that traverses the tree in level order
+	 */
+	public PrimitiveIterator.OfLong getLevelOrderIterator() {
+		checkOpen();
+		return values(TreeIndex.levelOrder(this::contains, () -> capacity));
+	}
+
+	/**
+	 * @return an iterator that traverses the tree in pre-order
+	 */
+	public PrimitiveIterator.OfLong getPreOrderIterator() {
+		checkOpen();
+		return values(TreeIndex.preOrder(this::contains, 0, k));
+	}
+
+	/**
+	 * @return an iterator that traverses the tree in post-order
+	 */
+	public PrimitiveIterator.OfLong getPostOrderIterator() {
+		checkOpen();
+		return values(TreeIndex.postOrder(this::contains, 0, k));
+	}
+
+	/**
+	 * @param indices
+	 *            an iterator over the indices of nodes
+	 * @return an iterator over the values at those indices
+	 */
+	private PrimitiveIterator.OfLong values(PrimitiveIterator.OfInt indices) {
+		return new PrimitiveIterator.OfLong() {
+			/**
+			 * @return true or false based on if there is another value
+			 */
+			public boolean hasNext() {
+				checkOpen();
+				return indices.hasNext();
+			}
+
+			/**
+			 * @return the value of the next node in the tree
+			 */
+			public long nextLong() {
+				checkOpen();
+				return values.getLong(indices.nextInt() * VALUE_BYTES);
+			}
+		};
+	}
+
+	/**
+	 * Lets go of the buffers holding the tree so their memory can be given
+	 * back. Any use of the tree after this throws an IllegalStateException.
+	 * Closing a closed tree does nothing.
+	 */
+	public void close() {
+		values = null;
+		present = null;
+		capacity = 0;
+		size = 0;
+		height = 0;
+	}
+}
@@ -0,0 +1,166 @@
+/**
+ * @author agent
+ * @version 10.18.2026
+ *
+ * This class holds the packed form of coded messages. Instead of a char
+ * for every digit, each digit takes only as many bits as the biggest digit
+ * below k needs, so a binary code takes one bit a digit and k = 100 takes
+ * seven, and k is not limited to the 36 digits chars can show. A packed
+ * message starts with the number of digits in it as a 4 byte int, followed
+ * by the digits from the highest bit of each byte down, the last byte
+ * filled out with zero bits.
+ */
+package ktree;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+final class PackedCode {
+	static final int HEADER_BYTES = Integer.BYTES;
+
+	/**
+	 * This class only has static methods and nested classes.
+	 */
+	private PackedCode() {
+	}
+
+	/**
+	 * @param k
+	 *            is the branching factor of the code tree
+	 * @return the number of bits each digit takes
+	 */
+	static int bitsPerDigit(int k) {
+		return Math.max(1, 32 - Integer.numberOfLeadingZeros(k - 1));
+	}
+
+	/**
+	 * Packs digits one at a time into a growing byte array.
+	 */
+	static final class Packer {
+		private final int bits;
+		private byte[] bytes;
+		private int length = HEADER_BYTES;
+		private int digits;
+
+		// bits added but not yet written to the array, lowest bits last
+		private long window;
+		private int windowBits;
+
+		/**
+		 * @param k
+		 *            is the branching factor of the code tree
+		 * @param expectedDigits
+		 *            about how many digits will be added, to size the array
+		 */
+		Packer(int k, int expectedDigits) {
+			this.bits = bitsPerDigit(k);
+			this.bytes = new byte[(int) Math.min(Integer.MAX_VALUE - 8,
+					HEADER_BYTES + (((long) expectedDigits * bits + 7) >>> 3))];
+		}
+
+		/**
+		 * @param digit
+		 *            the next digit of the message
+		 */
+		void add(int digit) {
+			if (digits == Integer.MAX_VALUE) {
+				throw new IllegalArgumentException("Too many digits to pack!");
+			}
+			window = (window << bits) | digit;
+			windowBits += bits;
+			while (windowBits >= 8) {
+				windowBits -= 8;
+				if (length == bytes.length) {
+					if (length == Integer.MAX_VALUE - 8) {
+						throw new IllegalArgumentException("Too many digits to pack!");
+					}
+					bytes = Arrays.copyOf(bytes, (int) Math.min(Integer.MAX_VALUE - 8, bytes.length * 2L + 8));
+				}
+				bytes[length++] = (byte) (window >>> windowBits);
+			}
+			digits++;
+		}
+
+		/**
+		 * @return the packed message, header and all
+		 */
+		byte[] toByteArray() {
+			byte[] packed = Arrays.copyOf(bytes, windowBits > 0 ? length + 1 : length);
+			if (windowBits > 0) {
+				packed[length] = (byte) (window << (8 - windowBits));
+			}
+			ByteBuffer.wrap(packed).putInt(0, digits);
+			return packed;
+		}
+	}
+
+	/**
+	 * Reads the digits of a packed message back one at a time.
+	 */
+	static final class Unpacker {
+		private final ByteBuffer packed;
+		private final int bits;
+		private final int mask;
+		private final int digits;
+		private int read;
+		private int position;
+
+		// bits read from the buffer but not yet used, lowest bits last
+		private long window;
+		private int windowBits;
+
+		/**
+		 * @param packed
+		 *            the packed message, from its position to its limit
+		 * @param k
+		 *            is the branching factor of the code tree
+		 * @throws IllegalArgumentException
+		 *             if the buffer is too short for the digits it says it
+		 *             holds
+		 */
+		Unpacker(ByteBuffer packed, int k) {
+			if (packed.remaining() < HEADER_BYTES) {
+				throw new IllegalArgumentException("Not a packed code!");
+			}
+			this.packed = packed;
+			this.bits = bitsPerDigit(k);
+			this.mask = (int) ((1L << bits) - 1);
+			this.position = packed.position();
+			this.digits = packed.getInt(position);
+			this.position += HEADER_BYTES;
+			if (digits < 0 || packed.limit() - position < (((long) digits * bits + 7) >>> 3)) {
+				throw new IllegalArgumentException("Not a packed code!");
+			}
+		}
+
+		/**
+		 * @return the number of digits in the message
+		 */
+		int digits() {
+			return digits;
+		}
+
+		/**
+		 * @return true if there is another digit to read
+		 */
+		boolean hasNext() {
+			return read < digits;
+		}
+
+		/**
+		 * @return the next digit of the message
+		 */
+		int next() {
+			if (read == digits) {
+				throw new NullPointerException("No more items!");
+			}
+			while (windowBits < bits) {
+				window = (window << 8) | (packed.get(position++) & 0xFF);
+				windowBits += 8;
+			}
+			windowBits -= bits;
+			read++;
+			return (int) (window >>> windowBits) & mask;
+		}
+	}
+}
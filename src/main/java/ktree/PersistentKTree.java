@@ -0,0 +1,519 @@
+/**
+ * @author agent
+ * @version 10.18.2026
+ *
+ * This class is a version of KTree that never changes once it is made.
+ * set() gives back a new tree instead of changing this one, and the new
+ * tree shares every node off the path from the root to the changed node
+ * with the old one, so a set only copies one node per level. Anyone still
+ * holding the old tree can keep reading, iterating over and decoding with
+ * it without locks and without seeing the change.
+ */
+package ktree;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Iterator;
+
+public class PersistentKTree<E> implements TreeIterable<E> {
+	/**
+	 * A node of the tree. Its children are kept in an array of k slots, an
+	 * empty slot being a missing child, or no array at all for a leaf.
+	 */
+	private static final class PNode<E> {
+		final E value;
+		final PNode<E>[] children;
+
+		/**
+		 * @param value
+		 *            the value of the node
+		 * @param children
+		 *            the k children of the node, or null for a leaf
+		 */
+		PNode(E value, PNode<E>[] children) {
+			this.value = value;
+			this.children = children;
+		}
+
+		/**
+		 * @param slot
+		 *            the position of the child among its siblings
+		 * @return the child in the slot, or null if there is none
+		 */
+		PNode<E> child(int slot) {
+			return children == null ? null : children[slot];
+		}
+
+		/**
+		 * @return true if the node has at least one child
+		 */
+		boolean hasChildren() {
+			if (children != null) {
+				for (PNode<E> child : children) {
+					if (child != null) {
+						return true;
+					}
+				}
+			}
+			return false;
+		}
+	}
+
+	private final PNode<E> root;
+	private final int k;
+	private final int size;
+	private final int height;
+	private final int[] levelCounts;
+
+	/**
+	 * This constructs the tree using an input array and a branching factor k
+	 *
+	 * @param arrayTree
+	 *            this is the array that contains the values of the nodes for
+	 *            the tree. Their position in the array indicates their
+	 *            index/position in the tree.
+	 * @param k
+	 *            is the branching factor of the tree
+	 */
+	public PersistentKTree(E[] arrayTree, int k) {
+		if (k < 2) {
+			throw new InvalidKException();
+		}
+		this.k = k;
+		int[] counts = new int[TreeIndex.levelOf(Math.max(arrayTree.length - 1, 0), k) + 1];
+		int level = 0;
+		long nextLevel = 1;
+		int count = 0;
+		int deepest = 0;
+		for (int i = 0; i < arrayTree.length; i++) {
+			if (i == nextLevel) {
+				level++;
+				nextLevel = nextLevel * k + 1;
+			}
+			if (arrayTree[i] != null) {
+				if (i > 0 && arrayTree[TreeIndex.parent(i, k)] == null) {
+					throw new InvalidTreeException();
+				}
+				counts[level]++;
+				count++;
+				deepest = level;
+			}
+		}
+		this.root = arrayTree.length == 0 ? null : build(arrayTree, 0, k);
+		this.size = count;
+		this.height = deepest;
+		this.levelCounts = counts;
+	}
+
+	/**
+	 * @param root
+	 *            the root of the new tree
+	 * @param k
+	 *            is the branching factor of the tree
+	 * @param size
+	 *            the number of nodes in the tree
+	 * @param levelCounts
+	 *            the number of nodes on each level
+	 */
+	private PersistentKTree(PNode<E> root, int k, int size, int[] levelCounts) {
+		this.root = root;
+		this.k = k;
+		this.size = size;
+		this.levelCounts = levelCounts;
+		int deepest = levelCounts.length - 1;
+		while (deepest > 0 && levelCounts[deepest] == 0) {
+			deepest--;
+		}
+		this.height = deepest;
+	}
+
+	/**
+	 * @param arrayTree
+	 *            the array the tree is made from
+	 * @param i
+	 *            the index of the node to make
+	 * @param k
+	 *            is the branching factor of the tree
+	 * @return the node at the index with all of its children, or null if
+	 *         there is no node there
+	 */
+	private static <E> PNode<E> build(E[] arrayTree, int i, int k) {
+		if (arrayTree[i] == null) {
+			return null;
+		}
+		PNode<E>[] children = null;
+		long firstChild = (long) i * k + 1;
+		if (firstChild < arrayTree.length) {
+			children = newNodes(k);
+			for (int slot = 0; slot < k && firstChild + slot < arrayTree.length; slot++) {
+				children[slot] = build(arrayTree, (int) firstChild + slot, k);
+			}
+		}
+		return new PNode<E>(arrayTree[i], children);
+	}
+
+	/**
+	 * @param length
+	 *            the number of slots
+	 * @return an array of empty node slots
+	 */
+	@SuppressWarnings("unchecked")
+	private static <E> PNode<E>[] newNodes(int length) {
+		return (PNode<E>[]) new PNode<?>[length];
+	}
+
+	/**
+	 *
+	 * @return the branching factor of the tree, k
+	 */
+	public int getK() {
+		return this.k;
+	}
+
+	/**
+	 *
+	 * @return the size of the tree or how many nodes there are in it
+	 */
+	public int size() {
+		return this.size;
+	}
+
+	/**
+	 * @return the height of the tree or the number of edges from the root to
+	 *         the deepest leaf
+	 */
+	public int height() {
+		return this.height;
+	}
+
+	/**
+	 * @param i
+	 *            the index of a node
+	 * @return the slot of each node on the path from the root to the index
+	 *         among its siblings, starting with the child of the root
+	 */
+	private int[] pathTo(int i) {
+		int[] slots = new int[TreeIndex.levelOf(i, k)];
+		for (int d = slots.length - 1; d >= 0; d--) {
+			slots[d] = (i - 1) % k;
+			i = TreeIndex.parent(i, k);
+		}
+		return slots;
+	}
+
+	/**
+	 *
+	 * @param i
+	 *            the index of the desired node
+	 * @return the value of the node at the indicated index
+	 */
+	public E get(int i) {
+		if (i < 0) {
+			throw new IllegalArgumentException("Node not in tree!");
+		}
+		PNode<E> current = root;
+		for (int slot : pathTo(i)) {
+			if (current == null) {
+				break;
+			}
+			current = current.child(slot);
+		}
+		if (current == null) {
+			throw new IllegalArgumentException("Node not in tree!");
+		}
+		return current.value;
+	}
+
+	/**
+	 * Makes a tree that is this one with one node changed. This tree is left
+	 * as it is.
+	 *
+	 * @param i
+	 *            the index of the desired node
+	 * @param value
+	 *            the value to give the desired node, or null to remove it
+	 * @return the changed tree, or this tree if the index is negative or the
+	 *         node to remove is not in the tree or has children
+	 */
+	public PersistentKTree<E> set(int i, E value) {
+		if (i < 0) {
+			return this;
+		}
+		int[] slots = pathTo(i);
+
+		// walk down to the node, remembering the path so it can be copied
+		PNode<E>[] path = newNodes(slots.length + 1);
+		path[0] = root;
+		for (int d = 0; d < slots.length; d++) {
+			if (path[d] == null) {
+				if (value == null) {
+					return this;
+				}
+				throw new InvalidTreeException();
+			}
+			path[d + 1] = path[d].child(slots[d]);
+		}
+		PNode<E> old = path[slots.length];
+
+		PNode<E> replacement;
+		int change;
+		if (value == null) {
+			if (old == null || old.hasChildren()) {
+				return this;
+			}
+			replacement = null;
+			change = -1;
+		} else {
+			replacement = new PNode<E>(value, old == null ? null : old.children);
+			change = old == null ? 1 : 0;
+		}
+
+		// copy the path back up to the root
+		for (int d = slots.length - 1; d >= 0; d--) {
+			PNode<E>[] children = path[d].children == null ? newNodes(k) : path[d].children.clone();
+			children[slots[d]] = replacement;
+			replacement = new PNode<E>(path[d].value, children);
+		}
+
+		int[] counts = levelCounts;
+		if (change != 0) {
+			counts = Arrays.copyOf(levelCounts, Math.max(levelCounts.length, slots.length + 1));
+			counts[slots.length] += change;
+		}
+		return new PersistentKTree<E>(replacement, k, size + change, counts);
+	}
+
+	/**
+	 * @return the tree as an array full of objects
+	 */
+	public Object[] toArray() {
+		Object[] tempArray = new Object[TreeIndex.arraySize(height, k)];
+		if (root == null) {
+			return tempArray;
+		}
+		// the nodes wait in the queue with their index
+		ArrayDeque<PNode<E>> nodes = new ArrayDeque<>();
+		ArrayDeque<Integer> indices = new ArrayDeque<>();
+		nodes.add(root);
+		indices.add(0);
+		while (!nodes.isEmpty()) {
+			PNode<E> node = nodes.poll();
+			int i = indices.poll();
+			tempArray[i] = node.value;
+			for (int slot = 0; slot < k; slot++) {
+				PNode<E> child = node.child(slot);
+				if (child != null) {
+					nodes.add(child);
+					indices.add(i * k + 1 + slot);
+				}
+			}
+		}
+		return tempArray;
+	}
+
+	/**
+	 * @return the tree as a String
+	 */
+	public String toString() {
+		if (root == null) {
+			return null;
+		}
+		Object[] slots = toArray();
+		StringBuilder builder = new StringBuilder();
+		long rightMost = 0;
+		for (int i = 0; i < slots.length; i++) {
+			if (i > 0) {
+				builder.append(i == rightMost + 1 ? '\n' : ' ');
+				if (i == rightMost + 1) {
+					rightMost = rightMost * k + k;
+				}
+			}
+			builder.append(slots[i]);
+		}
+		return builder.toString();
+	}
+
+	/**
+	 * @return an iterator that traverses the tree in level order
+	 */
+	public Iterator<E> getLevelOrderIterator() {
+		return new Iterator<E>() {
+			ArrayDeque<PNode<E>> queue = start();
+
+			/**
+			 * @return true or false based on if there is another value
+			 */
+			public boolean hasNext() {
+				return !queue.isEmpty();
+			}
+
+			/**
+			 * @return the value of the next node in the tree
+			 */
+			public E next() {
+				PNode<E> node = queue.poll();
+				if (node == null) {
+					throw new NullPointerException("No more items!");
+				}
+				for (int slot = 0; slot < k; slot++) {
+					if (node.child(slot) != null) {
+						queue.add(node.child(slot));
+					}
+				}
+				return node.value;
+			}
+		};
+	}
+
+	/**
+	 * @return an iterator that traverses the tree in pre-order
+	 */
+	public Iterator<E> getPreOrderIterator() {
+		return new Iterator<E>() {
+			ArrayDeque<PNode<E>> stack = start();
+
+			/**
+			 * @return true or false based on if there is another value
+			 */
+			public boolean hasNext() {
+				return !stack.isEmpty();
+			}
+
+			/**
+			 * @return the value of the next node in the tree
+			 */
+			public E next() {
+				PNode<E> node = stack.poll();
+				if (node == null) {
+					throw new NullPointerException("No more items!");
+				}
+				for (int slot = k - 1; slot >= 0; slot--) {
+					if (node.child(slot) != null) {
+						stack.push(node.child(slot));
+					}
+				}
+				return node.value;
+			}
+		};
+	}
+
+	/**
+	 * @return an iterator that traverses the tree in post-order
+	 */
+	public Iterator<E> getPostOrderIterator() {
+		return new Iterator<E>() {
+			// each node on the path down from the root with the slot of the
+			// next child of it to visit
+			ArrayDeque<PNode<E>> stack = start();
+			ArrayDeque<Integer> nextSlot = new ArrayDeque<>();
+			{
+				if (!stack.isEmpty()) {
+					nextSlot.push(0);
+				}
+			}
+
+			/**
+			 * @return true or false based on if there is another value
+			 */
+			public boolean hasNext() {
+				return !stack.isEmpty();
+			}
+
+			/**
+			 * @return the value of the next node in the tree
+			 */
+			public E next() {
+				if (stack.isEmpty()) {
+					throw new NullPointerException("No more items!");
+				}
+				while (true) {
+					PNode<E> node = stack.peek();
+					int slot = nextSlot.pop();
+					while (slot < k && node.child(slot) == null) {
+						slot++;
+					}
+					if (slot == k) {
+						stack.pop();
+						return node.value;
+					}
+					nextSlot.push(slot + 1);
+					stack.push(node.child(slot));
+					nextSlot.push(0);
+				}
+			}
+		};
+	}
+
+	/**
+	 * @return a new work list holding the root, or nothing for an empty tree
+	 */
+	private ArrayDeque<PNode<E>> start() {
+		ArrayDeque<PNode<E>> work = new ArrayDeque<>();
+		if (root != null) {
+			work.add(root);
+		}
+		return work;
+	}
+
+	/**
+	 * @return an String representation of the tree traversed in level order
+	 */
+	public String toStringLevelOrder() {
+		return join(this.getLevelOrderIterator());
+	}
+
+	/**
+	 * @return an String representation of the tree traversed in pre-order
+	 */
+	public String toStringPreOrder() {
+		return join(this.getPreOrderIterator());
+	}
+
+	/**
+	 * @return an String representation of the tree traversed in post-order
+	 */
+	public String toStringPostOrder() {
+		return join(this.getPostOrderIterator());
+	}
+
+	/**
+	 * @param it
+	 *            an iterator over the values of the tree
+	 * @return the values separated by spaces
+	 */
+	private String join(Iterator<E> it) {
+		StringBuilder builder = new StringBuilder();
+		while (it.hasNext()) {
+			if (builder.length() > 0) {
+				builder.append(' ');
+			}
+			builder.append(it.next());
+		}
+		return builder.toString();
+	}
+
+	/**
+	 *
+	 * @param tree
+	 *            the tree containing the letters in the message
+	 * @param codedMessage
+	 *            the "instructions" for getting the letters of the message
+	 * @return a String of the decoded messaged
+	 */
+	public static String decode(PersistentKTree<String> tree, String codedMessage) {
+		StringBuilder decoded = new StringBuilder();
+		PNode<String> current = tree.root;
+		for (int i = 0; i < codedMessage.length(); i++) {
+			int slot = Character.getNumericValue(codedMessage.charAt(i));
+			current = current == null || slot < 0 || slot >= tree.k ? null : current.child(slot);
+			if (current == null) {
+				throw new IllegalArgumentException("Node not in tree!");
+			}
+			if (!current.value.equals("_")) {
+				decoded.append(current.value);
+				current = tree.root;
+			}
+		}
+		return decoded.toString();
+	}
+}
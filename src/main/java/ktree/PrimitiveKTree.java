@@ -0,0 +1,309 @@
+/**
+ * @author agent
+ * @version 10.18.2026
+ *
+ * This class holds everything the primitive trees (IntKTree, LongKTree and
+ * DoubleKTree) have in common. The values are kept in a primitive array,
+ * an int[], long[] or double[] given by the type A, indexed like the array
+ * given to the KTree constructor. This class grows and copies that array,
+ * keeps track of which of its slots hold a node with a bit for each slot,
+ * and keeps the size and height of the tree. A slot with no node always
+ * holds 0. The subclasses only make the array and hold the typed getters,
+ * setters and iterators, which need the real type of the array.
+ */
+package ktree;
+
+import java.lang.reflect.Array;
+import java.util.PrimitiveIterator;
+
+abstract class PrimitiveKTree<A> {
+	// the value of each slot, read and written by the subclasses
+	A values;
+
+	// a one slot array holding 0, copied over a slot whose node is removed
+	private final A zero;
+
+	private long[] present;
+	private int capacity;
+	private int k;
+	private int size;
+	private int height;
+	private int[] levelCounts;
+
+	/**
+	 * @param capacity
+	 *            the number of slots to start with
+	 * @param k
+	 *            is the branching factor of the tree
+	 */
+	PrimitiveKTree(int capacity, int k) {
+		if (k < 2) {
+			throw new InvalidKException();
+		}
+		this.k = k;
+		this.capacity = Math.max(capacity, 1);
+		this.present = new long[(this.capacity + 63) >>> 6];
+		this.levelCounts = new int[TreeIndex.levelOf(this.capacity - 1, k) + 1];
+		this.values = newArray(this.capacity);
+		this.zero = newArray(1);
+	}
+
+	/**
+	 * @param length
+	 *            the number of slots
+	 * @return a new value array of the type the subclass keeps, full of 0
+	 */
+	abstract A newArray(int length);
+
+	/**
+	 *
+	 * @return the branching factor of the tree, k
+	 */
+	public int getK() {
+		return this.k;
+	}
+
+	/**
+	 *
+	 * @return the size of the tree or how many nodes there are in it
+	 */
+	public int size() {
+		return this.size;
+	}
+
+	/**
+	 * @return the height of the tree or the number of edges from the root to
+	 *         the deepest leaf
+	 */
+	public int height() {
+		return this.height;
+	}
+
+	/**
+	 * @param i
+	 *            the index of a node
+	 * @return true if there is a node at the index
+	 */
+	public boolean contains(int i) {
+		return i >= 0 && i < capacity && (present[i >>> 6] & (1L << i)) != 0;
+	}
+
+	/**
+	 * @param i
+	 *            the index of the desired node
+	 * @throws IllegalArgumentException
+	 *             if there is no node at the index
+	 */
+	void checkNode(int i) {
+		if (!contains(i)) {
+			throw new IllegalArgumentException("Node not in tree!");
+		}
+	}
+
+	/**
+	 * Checks that a node can be put at an index, makes room for it and counts
+	 * it if the slot was empty. The subclass stores the value afterwards.
+	 *
+	 * @param i
+	 *            the index of the node being set
+	 * @return false if the index is negative, true otherwise
+	 */
+	boolean prepareSet(int i) {
+		if (i < 0) {
+			return false;
+		}
+		if (i > 0 && !contains(TreeIndex.parent(i, k))) {
+			throw new InvalidTreeException();
+		}
+		addNode(i);
+		return true;
+	}
+
+	/**
+	 * Marks a slot as holding a node without checking its parent, which is
+	 * how the constructors fill the tree from an array.
+	 *
+	 * @param i
+	 *            the index of the node
+	 */
+	void addNode(int i) {
+		int level = TreeIndex.levelOf(i, k);
+		if (i >= capacity) {
+			int oldCapacity = capacity;
+			capacity = TreeIndex.arraySize(level, k);
+			long[] biggerPresent = new long[(capacity + 63) >>> 6];
+			System.arraycopy(present, 0, biggerPresent, 0, present.length);
+			present = biggerPresent;
+			A biggerValues = newArray(capacity);
+			System.arraycopy(values, 0, biggerValues, 0, oldCapacity);
+			values = biggerValues;
+		}
+		if (!contains(i)) {
+			present[i >>> 6] |= 1L << i;
+			if (level >= levelCounts.length) {
+				int[] biggerCounts = new int[level + 1];
+				System.arraycopy(levelCounts, 0, biggerCounts, 0, levelCounts.length);
+				levelCounts = biggerCounts;
+			}
+			levelCounts[level]++;
+			size++;
+			height = Math.max(height, level);
+		}
+	}
+
+	/**
+	 * Adds every slot of a primitive array to the tree as a node.
+	 *
+	 * @param arrayTree
+	 *            the values, indexed like the array given to the KTree
+	 *            constructor
+	 * @param length
+	 *            the length of the array
+	 */
+	void addAll(A arrayTree, int length) {
+		System.arraycopy(arrayTree, 0, values, 0, length);
+		for (int i = 0; i < length; i++) {
+			addNode(i);
+		}
+	}
+
+	/**
+	 * Adds every slot of a boxed array that is not null to the tree as a node.
+	 *
+	 * @param arrayTree
+	 *            the values, indexed like the array given to the KTree
+	 *            constructor, with null where there is no node
+	 */
+	void addAll(Object[] arrayTree) {
+		for (int i = 0; i < arrayTree.length; i++) {
+			if (arrayTree[i] != null) {
+				Array.set(values, i, arrayTree[i]);
+				addNode(i);
+			}
+		}
+	}
+
+	/**
+	 *
+	 * @param i
+	 *            the index of the node to remove
+	 * @return true or false based on if the node was in the tree and had no
+	 *         children so it could be removed
+	 */
+	public boolean remove(int i) {
+		if (!contains(i)) {
+			return false;
+		}
+		long firstChild = (long) i * k + 1;
+		for (long child = firstChild; child < firstChild + k && child < capacity; child++) {
+			if (contains((int) child)) {
+				return false;
+			}
+		}
+		present[i >>> 6] &= ~(1L << i);
+		System.arraycopy(zero, 0, values, i, 1);
+		int level = TreeIndex.levelOf(i, k);
+		levelCounts[level]--;
+		size--;
+		while (height > 0 && levelCounts[height] == 0) {
+			height--;
+		}
+		return true;
+	}
+
+	/**
+	 * @return the tree as an array with a slot for every position down to the
+	 *         height of the tree. Slots with no node hold 0, use contains() to
+	 *         tell them apart.
+	 */
+	public A toArray() {
+		int length = TreeIndex.arraySize(height, k);
+		A tempArray = newArray(length);
+		System.arraycopy(values, 0, tempArray, 0, Math.min(length, capacity));
+		return tempArray;
+	}
+
+	/**
+	 * @return an iterator over the indices of the nodes in level order
+	 */
+	PrimitiveIterator.OfInt levelOrderIndices() {
+		return TreeIndex.levelOrder(this::contains, () -> capacity);
+	}
+
+	/**
+	 * @return an iterator over the indices of the nodes in pre-order
+	 */
+	PrimitiveIterator.OfInt preOrderIndices() {
+		return TreeIndex.preOrder(this::contains, 0, k);
+	}
+
+	/**
+	 * @return an iterator over the indices of the nodes in post-order
+	 */
+	PrimitiveIterator.OfInt postOrderIndices() {
+		return TreeIndex.postOrder(this::contains, 0, k);
+	}
+
+	/**
+	 * @return the tree as a String
+	 */
+	public String toString() {
+		if (!contains(0)) {
+			return null;
+		}
+		int end = TreeIndex.arraySize(height, k);
+		StringBuilder builder = new StringBuilder();
+		long rightMost = 0;
+		for (int i = 0; i < end; i++) {
+			if (i > 0) {
+				builder.append(i == rightMost + 1 ? '\n' : ' ');
+				if (i == rightMost + 1) {
+					rightMost = rightMost * k + k;
+				}
+			}
+			if (contains(i)) {
+				builder.append(Array.get(values, i));
+			} else {
+				builder.append("null");
+			}
+		}
+		return builder.toString();
+	}
+
+	/**
+	 * @return an String representation of the tree traversed in level order
+	 */
+	public String toStringLevelOrder() {
+		return join(levelOrderIndices());
+	}
+
+	/**
+	 * @return an String representation of the tree traversed in pre-order
+	 */
+	public String toStringPreOrder() {
+		return join(preOrderIndices());
+	}
+
+	/**
+	 * @return an String representation of the tree traversed in post-order
+	 */
+	public String toStringPostOrder() {
+		return join(postOrderIndices());
+	}
+
+	/**
+	 * @param indices
+	 *            an iterator over the indices of the nodes
+	 * @return the values of the nodes separated by spaces
+	 */
+	private String join(PrimitiveIterator.OfInt indices) {
+		StringBuilder builder = new StringBuilder();
+		while (indices.hasNext()) {
+			if (builder.length() > 0) {
+				builder.append(' ');
+			}
+			builder.append(Array.get(values, indices.nextInt()));
+		}
+		return builder.toString();
+	}
+}
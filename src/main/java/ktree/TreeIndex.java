@@ -0,0 +1,261 @@
+/**
+ * @author agent
+ * @version 10.18.2026
+ *
+ * This class holds the index arithmetic shared by the trees that store
+ * their nodes by level-order index (the children of index i are i*k+1
+ * through i*k+k). It also provides the level, pre and post order
+ * traversals of those indices so each tree only has to map an index to
+ * its value.
+ */
+package ktree;
+
+import java.util.PrimitiveIterator;
+import java.util.function.IntPredicate;
+import java.util.function.IntSupplier;
+
+final class TreeIndex {
+
+	private TreeIndex() {
+	}
+
+	/**
+	 * @param i
+	 *            the index of the node
+	 * @param k
+	 *            the branching factor of the tree
+	 * @return the level of the node at index i, the root being level 0
+	 */
+	static int levelOf(int i, int k) {
+		long first = 0;
+		int level = 0;
+		while (first * k + 1 <= i) {
+			first = first * k + 1;
+			level++;
+		}
+		return level;
+	}
+
+	/**
+	 * @param level
+	 *            the level of the tree
+	 * @param k
+	 *            the branching factor of the tree
+	 * @return the index of the leftmost node of the level
+	 */
+	static long firstOfLevel(int level, int k) {
+		long first = 0;
+		for (int l = 0; l < level; l++) {
+			first = first * k + 1;
+		}
+		return first;
+	}
+
+	/**
+	 * @param height
+	 *            the height of the tree
+	 * @param k
+	 *            the branching factor of the tree
+	 * @return the number of slots needed to hold every level from the root
+	 *         down to the given height
+	 */
+	static int arraySize(int height, int k) {
+		long slots = firstOfLevel(height + 1, k);
+		if (slots > Integer.MAX_VALUE - 8) {
+			throw new IllegalArgumentException("Tree too deep for an array!");
+		}
+		return (int) slots;
+	}
+
+	/**
+	 * @param i
+	 *            the index of the node
+	 * @param k
+	 *            the branching factor of the tree
+	 * @return the index of the parent of the node or -1 for the root
+	 */
+	static int parent(int i, int k) {
+		return i == 0 ? -1 : (i - 1) / k;
+	}
+
+	/**
+	 * @param i
+	 *            the index of the node in a tree
+	 * @param k
+	 *            the branching factor of the tree
+	 * @return the index the node would have if the children of every node
+	 *         were in reverse order
+	 */
+	static int mirrorOf(int i, int k) {
+		int level = levelOf(i, k);
+		long first = firstOfLevel(level, k);
+		long last = first * k;
+		return (int) (first + last - i);
+	}
+
+	/**
+	 * @param occupied
+	 *            tells whether there is a node at an index
+	 * @param bound
+	 *            gives one past the largest index that may hold a node
+	 * @return an iterator over the indices of the nodes in level order
+	 */
+	static PrimitiveIterator.OfInt levelOrder(IntPredicate occupied, IntSupplier bound) {
+		return new PrimitiveIterator.OfInt() {
+			int next = 0;
+
+			/**
+			 * @return true or false based on if there is another node
+			 */
+			public boolean hasNext() {
+				int end = bound.getAsInt();
+				while (next < end && !occupied.test(next)) {
+					next++;
+				}
+				return next < end;
+			}
+
+			/**
+			 * @return the index of the next node in level order
+			 */
+			public int nextInt() {
+				if (!hasNext()) {
+					throw new NullPointerException("No more items!");
+				}
+				return next++;
+			}
+		};
+	}
+
+	/**
+	 * @param occupied
+	 *            tells whether there is a node at an index
+	 * @param start
+	 *            the index of the node the traversal starts at
+	 * @param k
+	 *            the branching factor of the tree
+	 * @return an iterator over the indices of the nodes in pre-order
+	 */
+	static PrimitiveIterator.OfInt preOrder(IntPredicate occupied, int start, int k) {
+		return new PrimitiveIterator.OfInt() {
+			int[] stack = new int[k + 1];
+			int top = 0;
+			boolean started = false;
+
+			/**
+			 * @return true or false based on if there is another node
+			 */
+			public boolean hasNext() {
+				if (!started) {
+					started = true;
+					if (occupied.test(start)) {
+						stack[top++] = start;
+					}
+				}
+				return top > 0;
+			}
+
+			/**
+			 * @return the index of the next node in pre-order
+			 */
+			public int nextInt() {
+				if (!hasNext()) {
+					throw new NullPointerException("No more items!");
+				}
+				int current = stack[--top];
+				long firstChild = (long) current * k + 1;
+				for (int c = k - 1; c >= 0; c--) {
+					long child = firstChild + c;
+					if (child <= Integer.MAX_VALUE && occupied.test((int) child)) {
+						if (top == stack.length) {
+							int[] bigger = new int[stack.length * 2];
+							System.arraycopy(stack, 0, bigger, 0, top);
+							stack = bigger;
+						}
+						stack[top++] = (int) child;
+					}
+				}
+				return current;
+			}
+		};
+	}
+
+	/**
+	 * @param occupied
+	 *            tells whether there is a node at an index
+	 * @param start
+	 *            the index of the node the traversal starts at
+	 * @param k
+	 *            the branching factor of the tree
+	 * @return an iterator over the indices of the nodes in post-order
+	 */
+	static PrimitiveIterator.OfInt postOrder(IntPredicate occupied, int start, int k) {
+		return new PrimitiveIterator.OfInt() {
+			// the path from the start node down to the node being visited and
+			// the offset of the next child to look at for each node on it
+			int[] path = new int[8];
+			int[] nextChild = new int[8];
+			int depth = 0;
+			boolean started = false;
+
+			/**
+			 * @return true or false based on if there is another node
+			 */
+			public boolean hasNext() {
+				if (!started) {
+					started = true;
+					if (occupied.test(start)) {
+						push(start);
+					}
+				}
+				return depth > 0;
+			}
+
+			/**
+			 * @return the index of the next node in post-order
+			 */
+			public int nextInt() {
+				if (!hasNext()) {
+					throw new NullPointerException("No more items!");
+				}
+				while (true) {
+					int top = depth - 1;
+					int current = path[top];
+					int c = nextChild[top];
+					int found = -1;
+					while (c < k && found < 0) {
+						long child = (long) current * k + 1 + c;
+						c++;
+						if (child <= Integer.MAX_VALUE && occupied.test((int) child)) {
+							found = (int) child;
+						}
+					}
+					nextChild[top] = c;
+					if (found < 0) {
+						depth--;
+						return current;
+					}
+					push(found);
+				}
+			}
+
+			/**
+			 * @param index
+			 *            the index of the node to add to the path
+			 */
+			private void push(int index) {
+				if (depth == path.length) {
+					int[] biggerPath = new int[depth * 2];
+					int[] biggerNext = new int[depth * 2];
+					System.arraycopy(path, 0, biggerPath, 0, depth);
+					System.arraycopy(nextChild, 0, biggerNext, 0, depth);
+					path = biggerPath;
+					nextChild = biggerNext;
+				}
+				path[depth] = index;
+				nextChild[depth] = 0;
+				depth++;
+			}
+		};
+	}
+}
@@ -0,0 +1,43 @@
+/**
+ * @author Helena Gray
+ * @version 11.4.2018
+ * This class provides an interface for the iterators seen in KTree. */
+package ktree;
+
+import java.util.Iterator;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+interface TreeIterable<T> {
+	public Iterator<T> getLevelOrderIterator();
+	public Iterator<T> getPreOrderIterator();
+	public Iterator<T> getPostOrderIterator();
+
+	// by default these run in order on one thread, a tree can give back
+	// spliterators that split
+	public default Spliterator<T> levelOrderSpliterator() {
+		return Spliterators.spliteratorUnknownSize(getLevelOrderIterator(), Spliterator.ORDERED);
+	}
+
+	public default Spliterator<T> preOrderSpliterator() {
+		return Spliterators.spliteratorUnknownSize(getPreOrderIterator(), Spliterator.ORDERED);
+	}
+
+	public default Spliterator<T> postOrderSpliterator() {
+		return Spliterators.spliteratorUnknownSize(getPostOrderIterator(), Spliterator.ORDERED);
+	}
+
+	public default Stream<T> levelOrderStream() {
+		return StreamSupport.stream(levelOrderSpliterator(), false);
+	}
+
+	public default Stream<T> preOrderStream() {
+		return StreamSupport.stream(preOrderSpliterator(), false);
+	}
+
+	public default Stream<T> postOrderStream() {
+		return StreamSupport.stream(postOrderSpliterator(), false);
+	}
+}
\ No newline at end of file
@@ -0,0 +1,93 @@
+/**
+ * @author agent
+ * @version 10.18.2026
+ *
+ * This interface writes the values of a tree to a binary stream and reads
+ * them back, for KTree.writeTo() and KTree.readFrom(). Codecs for String,
+ * Integer and Long values are given; other values need their own codec.
+ */
+package ktree;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+public interface ValueCodec<E> {
+	/**
+	 * Writes a String as its length in bytes followed by its UTF-8 bytes, so
+	 * it is not limited to the 64 KB of writeUTF().
+	 */
+	public static final ValueCodec<String> STRING = new ValueCodec<String>() {
+		public void write(String value, DataOutput out) throws IOException {
+			byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+			out.writeInt(bytes.length);
+			out.write(bytes);
+		}
+
+		public String read(DataInput in) throws IOException {
+			int length = in.readInt();
+			if (length < 0) {
+				throw new IOException("Not a KTree stream!");
+			}
+			// the bytes are read a piece at a time so a length that is
+			// corrupt cannot ask for more memory than the input holds
+			byte[] bytes = new byte[Math.min(length, 8192)];
+			int read = 0;
+			while (read < length) {
+				if (read == bytes.length) {
+					bytes = Arrays.copyOf(bytes, (int) Math.min(length, 2L * read));
+				}
+				in.readFully(bytes, read, bytes.length - read);
+				read = bytes.length;
+			}
+			return new String(bytes, StandardCharsets.UTF_8);
+		}
+	};
+
+	/**
+	 * Writes an Integer as 4 bytes.
+	 */
+	public static final ValueCodec<Integer> INTEGER = new ValueCodec<Integer>() {
+		public void write(Integer value, DataOutput out) throws IOException {
+			out.writeInt(value);
+		}
+
+		public Integer read(DataInput in) throws IOException {
+			return in.readInt();
+		}
+	};
+
+	/**
+	 * Writes a Long as 8 bytes.
+	 */
+	public static final ValueCodec<Long> LONG = new ValueCodec<Long>() {
+		public void write(Long value, DataOutput out) throws IOException {
+			out.writeLong(value);
+		}
+
+		public Long read(DataInput in) throws IOException {
+			return in.readLong();
+		}
+	};
+
+	/**
+	 * @param value
+	 *            the value of a node, never null
+	 * @param out
+	 *            where the value is written
+	 * @throws IOException
+	 *             if the output cannot be written to
+	 */
+	public void write(E value, DataOutput out) throws IOException;
+
+	/**
+	 * @param in
+	 *            where the value is read from
+	 * @return the value written by write()
+	 * @throws IOException
+	 *             if the input cannot be read or does not hold a value
+	 */
+	public E read(DataInput in) throws IOException;
+}
@@ -0,0 +1,1017 @@
+/**
+ * @author agent
+ * @version 10.18.2026
+ *
+ * This class runs the checks for the classes added around KTree. Unlike the
+ * tests in KTree.main(), which are kept commented out, these run every time:
+ * each check prints whether it passed or failed, and the run ends with an
+ * error status if any check failed.
+ *
+ * Run it with "gradle ktreeTest", which "gradle check" also does.
+ */
+package ktree;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.StringWriter;
+import java.io.UncheckedIOException;
+import java.lang.management.BufferPoolMXBean;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.AbstractSequentialList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.ListIterator;
+import java.util.Map;
+import java.util.Objects;
+import java.util.PrimitiveIterator;
+import java.util.Random;
+import java.util.Spliterator;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntPredicate;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+public class KTreeTest {
+	// a full binary tree and its mirror
+	private static final Integer[] FULL = { 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12, 13, 14 };
+	private static final Integer[] FULL_MIRROR = { 0, 2, 1, 6, 5, 4, 3, 14, 13, 12, 11, 10, 9, 8, 7 };
+
+	private static int testNumber;
+	private static int failures;
+
+	/**
+	 * @param args
+	 *            the supplied command line arguments
+	 */
+	public static void main(String[] args) throws Exception {
+		treeIndexTests();
+		arrayKTreeTests();
+		primitiveKTreeTests();
+		offHeapKTreeTests();
+		mappedKTreeTests();
+		setAllTests();
+		streamTests();
+		concurrentReadTests();
+		concurrentKTreeTests();
+		persistentKTreeTests();
+		huffmanTests();
+		streamDecodeTests();
+		decodeAllTests();
+		packedCodeTests();
+		subtreeViewTests();
+		mirroredViewTests();
+		mirrorInPlaceTests();
+		cachedToArrayTests();
+		writeToReadFromTests();
+
+		System.out.println("\n" + (failures == 0 ? "All tests passed!" : failures + " tests failed!"));
+		if (failures > 0) {
+			System.exit(1);
+		}
+	}
+
+	/**
+	 * Starts a new group of checks.
+	 *
+	 * @param name
+	 *            the name printed for the group
+	 */
+	private static void section(String name) {
+		System.out.println("\n" + name + " Tests \n");
+		testNumber = 0;
+	}
+
+	/**
+	 * @param passed
+	 *            whether the next check passed
+	 */
+	private static void check(boolean passed) {
+		testNumber++;
+		if (passed) {
+			System.out.println("You passed test " + testNumber + "!");
+		} else {
+			System.out.println("You failed test " + testNumber + "!");
+			failures++;
+		}
+	}
+
+	/**
+	 * @param it
+	 *            an iterator over a tree
+	 * @return the values the iterator gave, in order
+	 */
+	private static <E> List<E> drain(Iterator<E> it) {
+		List<E> values = new ArrayList<>();
+		it.forEachRemaining(values::add);
+		return values;
+	}
+
+	/**
+	 * @param random
+	 *            where the chances come from
+	 * @param k
+	 *            the branching factor of the tree
+	 * @param height
+	 *            the height of the array
+	 * @param density
+	 *            the chance of each slot holding a node when its parent does
+	 * @return an array for a valid tree where each node holds its index
+	 */
+	private static Integer[] randomTree(Random random, int k, int height, double density) {
+		Integer[] input = new Integer[TreeIndex.arraySize(height, k)];
+		input[0] = 0;
+		for (int i = 1; i < input.length; i++) {
+			if (input[TreeIndex.parent(i, k)] != null && random.nextDouble() < density) {
+				input[i] = i;
+			}
+		}
+		return input;
+	}
+
+	/**
+	 * @param action
+	 *            a call that may throw
+	 * @return what the call gave back, or the class of what it threw
+	 */
+	private static Object outcome(Supplier<?> action) {
+		try {
+			return action.get();
+		} catch (RuntimeException e) {
+			return e.getClass();
+		}
+	}
+
+	/**
+	 * @param it
+	 *            an iterator over indices
+	 * @return the indices, in order
+	 */
+	private static List<Integer> drainIndices(PrimitiveIterator.OfInt it) {
+		List<Integer> indices = new ArrayList<>();
+		it.forEachRemaining((int i) -> indices.add(i));
+		return indices;
+	}
+
+	// TreeIndex
+	private static void treeIndexTests() {
+		section("TreeIndex");
+		check(TreeIndex.levelOf(0, 2) == 0 && TreeIndex.levelOf(2, 2) == 1 && TreeIndex.levelOf(3, 2) == 2
+				&& TreeIndex.levelOf(12, 3) == 2 && TreeIndex.levelOf(13, 3) == 3);
+		check(TreeIndex.firstOfLevel(3, 2) == 7 && TreeIndex.arraySize(2, 3) == 13 && TreeIndex.parent(0, 2) == -1
+				&& TreeIndex.parent(6, 2) == 2 && TreeIndex.parent(12, 3) == 3);
+		check(TreeIndex.mirrorOf(1, 2) == 2 && TreeIndex.mirrorOf(7, 2) == 14 && TreeIndex.mirrorOf(5, 3) == 11);
+
+		boolean passed = false;
+		try {
+			TreeIndex.arraySize(40, 2);
+		} catch (IllegalArgumentException e) {
+			passed = true;
+		}
+		check(passed);
+
+		// the index iterators visit the same nodes in the same order as
+		// KTree's iterators
+		Integer[] input = { 0, 1, 2, null, 4, 5, null };
+		IntPredicate occupied = i -> i < input.length && input[i] != null;
+		check(drainIndices(TreeIndex.levelOrder(occupied, () -> input.length)).equals(Arrays.asList(0, 1, 2, 4, 5))
+				&& drainIndices(TreeIndex.preOrder(occupied, 0, 2)).equals(Arrays.asList(0, 1, 4, 2, 5))
+				&& drainIndices(TreeIndex.postOrder(occupied, 0, 2)).equals(Arrays.asList(4, 1, 5, 2, 0)));
+	}
+
+	// ArrayKTree checked against KTree on random trees and random updates
+	private static void arrayKTreeTests() {
+		section("ArrayKTree");
+		ArrayKTree<String> small = new ArrayKTree<>(new String[] { "_", "_", "A", "B", "N", null, null }, 2);
+		check(small.getK() == 2 && small.size() == 5 && small.height() == 2 && small.get(3).equals("B")
+				&& small.toStringPreOrder().equals("_ _ B N A")
+				&& ArrayKTree.decode(small, "00011").equals("BNA"));
+		// a digit that is not below k does not land on another node
+		check(outcome(() -> ArrayKTree.decode(small, "2")) == IllegalArgumentException.class
+				&& outcome(() -> ArrayKTree.decode(small, "0-")) == IllegalArgumentException.class
+				&& outcome(() -> ArrayKTree.decode(small, "a")) == IllegalArgumentException.class);
+
+		Random random = new Random(1);
+		int mismatches = 0;
+		for (int round = 0; round < 300; round++) {
+			int k = 2 + random.nextInt(3);
+			Integer[] input = randomTree(random, k, 1 + random.nextInt(4), 0.6);
+			KTree<Integer> linked = new KTree<>(input, k);
+			ArrayKTree<Integer> array = new ArrayKTree<>(input, k);
+			for (int step = 0; step < 40; step++) {
+				int i = random.nextInt(input.length * 2);
+				Integer value = random.nextBoolean() ? null : (Integer) i;
+				if (!Objects.equals(outcome(() -> linked.set(i, value)), outcome(() -> array.set(i, value)))
+						|| !Objects.equals(outcome(() -> linked.get(i)), outcome(() -> array.get(i)))) {
+					mismatches++;
+				}
+			}
+			if (linked.size() != array.size() || linked.height() != array.height()
+					|| !Arrays.equals(linked.toArray(), array.toArray())
+					|| !Objects.equals(linked.toString(), array.toString())
+					|| !drain(linked.getLevelOrderIterator()).equals(drain(array.getLevelOrderIterator()))
+					|| !drain(linked.getPreOrderIterator()).equals(drain(array.getPreOrderIterator()))
+					|| !drain(linked.getPostOrderIterator()).equals(drain(array.getPostOrderIterator()))
+					|| !Arrays.equals(linked.mirror(), array.mirror())) {
+				mismatches++;
+			}
+			if (array.toArray().length > 1 && array.toArray()[1] != null
+					&& !Arrays.equals(linked.subtree(1), array.subtree(1))) {
+				mismatches++;
+			}
+		}
+		check(mismatches == 0);
+	}
+
+	// IntKTree, LongKTree and DoubleKTree checked against KTree holding the
+	// same values on random trees and random updates
+	private static void primitiveKTreeTests() {
+		section("Primitive KTree");
+		IntKTree ints = new IntKTree(new Integer[] { 0, 1, 2, null, 4, 5, null }, 2);
+		check(ints.size() == 5 && ints.height() == 2 && ints.getInt(4) == 4 && !ints.contains(3)
+				&& Arrays.equals(ints.toArray(), new int[] { 0, 1, 2, 0, 4, 5, 0 })
+				&& ints.toStringPostOrder().equals("4 1 5 2 0"));
+		LongKTree longs = new LongKTree(new long[] { 5, 6, 7 }, 2);
+		check(longs.size() == 3 && longs.setLong(3, 1L << 40) && longs.getLong(3) == 1L << 40
+				&& longs.height() == 2 && longs.remove(3) && longs.height() == 1
+				&& Arrays.equals(longs.toArray(), new long[] { 5, 6, 7 }));
+		DoubleKTree doubles = new DoubleKTree(new Double[] { 0.5, null, 2.5 }, 2);
+		check(doubles.getDouble(2) == 2.5 && doubles.toString().equals("0.5\nnull 2.5")
+				&& doubles.setDouble(6, 6.5) && doubles.toStringLevelOrder().equals("0.5 2.5 6.5"));
+
+		// a removed node leaves 0 in its slot
+		check(ints.remove(5) && ints.setInt(5, 9) && ints.remove(5) && !ints.contains(5)
+				&& Arrays.equals(ints.toArray(), new int[] { 0, 1, 2, 0, 4, 0, 0 }));
+
+		Random random = new Random(2);
+		int mismatches = 0;
+		for (int round = 0; round < 200; round++) {
+			int k = 2 + random.nextInt(3);
+			Integer[] input = randomTree(random, k, 1 + random.nextInt(4), 0.6);
+			Long[] longInput = new Long[input.length];
+			Double[] doubleInput = new Double[input.length];
+			for (int i = 0; i < input.length; i++) {
+				longInput[i] = input[i] == null ? null : (long) input[i];
+				doubleInput[i] = input[i] == null ? null : (double) input[i];
+			}
+			KTree<Integer> expected = new KTree<>(input, k);
+			IntKTree intTree = new IntKTree(input, k);
+			LongKTree longTree = new LongKTree(longInput, k);
+			DoubleKTree doubleTree = new DoubleKTree(doubleInput, k);
+			for (int step = 0; step < 40; step++) {
+				int i = random.nextInt(input.length * 2);
+				if (random.nextBoolean()) {
+					Object result = outcome(() -> expected.set(i, null));
+					if (!result.equals(intTree.remove(i)) || !result.equals(longTree.remove(i))
+							|| !result.equals(doubleTree.remove(i))) {
+						mismatches++;
+					}
+				} else {
+					int value = random.nextInt(1000);
+					Object result = outcome(() -> expected.set(i, value));
+					if (!result.equals(outcome(() -> intTree.setInt(i, value)))
+							|| !result.equals(outcome(() -> longTree.setLong(i, value)))
+							|| !result.equals(outcome(() -> doubleTree.setDouble(i, value)))) {
+						mismatches++;
+					}
+				}
+			}
+			List<Integer> level = drain(expected.getLevelOrderIterator());
+			List<Integer> pre = drain(expected.getPreOrderIterator());
+			List<Integer> post = drain(expected.getPostOrderIterator());
+			if (intTree.size() != expected.size() || intTree.height() != expected.height()
+					|| longTree.size() != expected.size() || doubleTree.height() != expected.height()
+					|| !drain(intTree.getLevelOrderIterator()).equals(level)
+					|| !drain(intTree.getPreOrderIterator()).equals(pre)
+					|| !drain(intTree.getPostOrderIterator()).equals(post)
+					|| !Objects.equals(intTree.toString(), expected.toString())
+					|| !longTree.toStringPreOrder().equals(expected.toStringPreOrder())) {
+				mismatches++;
+			}
+			List<Integer> doublePost = new ArrayList<>();
+			doubleTree.getPostOrderIterator().forEachRemaining((double d) -> doublePost.add((int) d));
+			if (!doublePost.equals(post)) {
+				mismatches++;
+			}
+			Object[] slots = expected.toArray();
+			int[] intSlots = intTree.toArray();
+			long[] longSlots = longTree.toArray();
+			double[] doubleSlots = doubleTree.toArray();
+			if (intSlots.length != slots.length || longSlots.length != slots.length
+					|| doubleSlots.length != slots.length) {
+				mismatches++;
+				continue;
+			}
+			for (int i = 0; i < slots.length; i++) {
+				int value = slots[i] == null ? 0 : (Integer) slots[i];
+				if (intSlots[i] != value || longSlots[i] != value || doubleSlots[i] != value
+						|| intTree.contains(i) != (slots[i] != null)) {
+					mismatches++;
+				}
+			}
+		}
+		check(mismatches == 0);
+	}
+
+	/**
+	 * @return the bytes held by direct buffers right now
+	 */
+	private static long directMemory() {
+		for (BufferPoolMXBean pool : ManagementFactory.getPlatformMXBeans(BufferPoolMXBean.class)) {
+			if (pool.getName().equals("direct")) {
+				return pool.getMemoryUsed();
+			}
+		}
+		return -1;
+	}
+
+	// OffHeapKTree
+	private static void offHeapKTreeTests() throws InterruptedException {
+		section("OffHeapKTree");
+		OffHeapKTree tree = new OffHeapKTree(new long[] { 10, 11, 12 }, 2);
+		check(tree.size() == 3 && tree.getLong(2) == 12 && tree.setLong(5, 15) && tree.height() == 2
+				&& drain(tree.getPreOrderIterator()).equals(Arrays.asList(10L, 11L, 12L, 15L)) && !tree.remove(2) && tree.remove(5)
+				&& Arrays.equals(tree.toArray(), new long[] { 10, 11, 12 }));
+
+		// growing the buffers keeps every node
+		check(tree.setLong(3, 13) && tree.setLong(7, 17) && tree.setLong(15, 115) && tree.height() == 4
+				&& drain(tree.getLevelOrderIterator()).equals(Arrays.asList(10L, 11L, 12L, 13L, 17L, 115L)));
+
+		// a boxed array leaves the slots holding null empty
+		OffHeapKTree sparse = new OffHeapKTree(new Long[] { 10L, null, 12L, null, null, 15L }, 2);
+		check(sparse.size() == 3 && !sparse.contains(1) && sparse.getLong(5) == 15 && sparse.height() == 2
+				&& drain(sparse.getPreOrderIterator()).equals(Arrays.asList(10L, 12L, 15L))
+				&& outcome(() -> sparse.getLong(1)) == IllegalArgumentException.class);
+
+		// a million slots take 8 MB off the heap, which the garbage collector
+		// gives back once the tree is closed
+		long before = directMemory();
+		OffHeapKTree big = new OffHeapKTree(1 << 20, 2);
+		big.setLong(0, 1);
+		long open = directMemory();
+		big.close();
+		for (int tries = 0; tries < 50 && directMemory() - before >= 1 << 20; tries++) {
+			System.gc();
+			Thread.sleep(20);
+		}
+		check(open - before >= 8 << 20 && directMemory() - before < 1 << 20);
+
+		// a closed tree cannot be used
+		PrimitiveIterator.OfLong it = tree.getLevelOrderIterator();
+		tree.close();
+		tree.close();
+		int refused = 0;
+		List<Runnable> uses = Arrays.asList(() -> tree.getLong(0), () -> tree.setLong(1, 1), () -> tree.toArray(),
+				() -> tree.contains(0), () -> tree.getPreOrderIterator(), () -> it.nextLong(), () -> tree.size(),
+				() -> tree.height(), () -> tree.toString(), () -> tree.remove(0));
+		for (Runnable use : uses) {
+			try {
+				use.run();
+			} catch (IllegalStateException e) {
+				refused++;
+			}
+		}
+		check(refused == uses.size());
+	}
+
+	// MappedKTree
+	private static void mappedKTreeTests() throws IOException {
+		section("MappedKTree");
+		Path path = Files.createTempFile("ktree", ".bin");
+		try {
+			KTree<String> morse = new KTree<>(new String[] { "_", "E", "T", "I", "A", "N", "M", "S", "U", "R",
+					"W", "D", "K", "G", "O", "H", "V", "F", "\u00dc", "L", "\u00c4", "P", "J" }, 2);
+			MappedKTree.write(morse, path);
+			MappedKTree mapped = MappedKTree.open(path);
+			check(mapped.getK() == 2 && mapped.size() == morse.size() && mapped.height() == morse.height()
+					&& Arrays.equals(mapped.toArray(), morse.toArray())
+					&& MappedKTree.decode(mapped, "101").equals("TET")
+					&& drain(mapped.getPreOrderIterator()).equals(drain(morse.getPreOrderIterator())));
+			check(outcome(() -> MappedKTree.decode(mapped, "2")) == IllegalArgumentException.class
+					&& outcome(() -> MappedKTree.decode(mapped, "1-")) == IllegalArgumentException.class);
+
+			// with tiny pieces the offsets, lengths and values cross from one
+			// mapping to the next
+			Random random = new Random(5);
+			boolean same = true;
+			for (int round = 0; round < 20; round++) {
+				int k = 2 + round % 3;
+				KTree<Integer> tree = new KTree<>(randomTree(random, k, 4, 0.7), k);
+				MappedKTree.write(tree, path);
+				for (int segmentBytes : new int[] { 1, 3, 7, 64 }) {
+					MappedKTree small = MappedKTree.open(path, segmentBytes);
+					Object[] slots = tree.toArray();
+					for (int i = 0; i < slots.length + k; i++) {
+						same &= small.contains(i) == (i < slots.length && slots[i] != null);
+						same &= !small.contains(i) || small.get(i).equals(String.valueOf(slots[i]));
+					}
+					same &= drain(small.getLevelOrderIterator()).equals(drain(tree.getLevelOrderIterator()).stream()
+							.map(String::valueOf).collect(Collectors.toList()));
+					same &= drain(small.getPostOrderIterator()).equals(drain(tree.getPostOrderIterator()).stream()
+							.map(String::valueOf).collect(Collectors.toList()));
+				}
+			}
+			check(same);
+
+			Files.write(path, new byte[] { 0x4B, 0x54 });
+			boolean passed = false;
+			try {
+				MappedKTree.open(path);
+			} catch (IOException e) {
+				passed = true;
+			}
+			check(passed);
+		} finally {
+			Files.delete(path);
+		}
+	}
+
+	// setAll(int[] indices, E[] values)
+	private static void setAllTests() {
+		section("setAll");
+		KTree<Integer> tree = new KTree<>(new Integer[] { 0, null, 2, null, null, 5, 6 }, 2);
+
+		// a parent and its children can be added in one batch in any order
+		check(tree.setAll(new int[] { 4, 1, 3 }, new Integer[] { 4, 1, 3 }) && tree.get(1) == 1 && tree.get(3) == 3
+				&& tree.get(4) == 4 && tree.size() == 7);
+
+		// a node without a parent anywhere in the batch throws and nothing is
+		// changed
+		boolean passed = false;
+		try {
+			tree.setAll(new int[] { 14, 20 }, new Integer[] { 14, 20 });
+		} catch (InvalidTreeException e) {
+			passed = tree.size() == 7;
+		}
+		check(passed);
+
+		// removing a node that keeps its children returns false
+		check(!tree.setAll(new int[] { 1 }, new Integer[] { null }) && tree.get(1) == 1);
+
+		// a node can be removed along with its children
+		check(tree.setAll(new int[] { 2, 6, 5 }, new Integer[] { null, null, null }) && tree.size() == 4
+				&& tree.height() == 2);
+
+		// the height goes down once a whole level is removed
+		check(tree.setAll(new int[] { 3, 1, 4 }, new Integer[] { null, null, null }) && tree.size() == 1
+				&& tree.height() == 0 && tree.toString().equals("0"));
+
+		// an empty batch changes nothing
+		check(tree.setAll(new int[0], new Integer[0]) && tree.size() == 1 && tree.toString().equals("0"));
+
+		// a batch that goes back up to a lower branch after a deeper one
+		// finds every node
+		KTree<Integer> deep = new KTree<>(new Integer[] { 0 }, 2);
+		check(deep.setAll(new int[] { 1, 2, 3, 4, 5, 6, 7, 10, 13, 14 },
+				new Integer[] { 1, 2, 3, 4, 5, 6, 7, 10, 13, 14 }) && deep.size() == 11
+				&& drain(deep.getLevelOrderIterator()).equals(Arrays.asList(0, 1, 2, 3, 4, 5, 6, 7, 10, 13, 14)));
+	}
+
+	// levelOrderStream(), preOrderStream(), postOrderStream()
+	private static void streamTests() {
+		section("Stream");
+		KTree<Integer> tree = new KTree<>(new Integer[] { 0, 1, 2, null, 4, 5, null }, 2);
+		check(tree.levelOrderStream().collect(Collectors.toList()).equals(Arrays.asList(0, 1, 2, 4, 5))
+				&& tree.preOrderStream().collect(Collectors.toList()).equals(Arrays.asList(0, 1, 4, 2, 5))
+				&& tree.postOrderStream().collect(Collectors.toList()).equals(Arrays.asList(4, 1, 5, 2, 0)));
+
+		// parallel streams keep the order of the traversal
+		check(tree.levelOrderStream().parallel().collect(Collectors.toList()).equals(Arrays.asList(0, 1, 2, 4, 5))
+				&& tree.preOrderStream().parallel().collect(Collectors.toList()).equals(Arrays.asList(0, 1, 4, 2, 5))
+				&& tree.postOrderStream().parallel().collect(Collectors.toList())
+						.equals(Arrays.asList(4, 1, 5, 2, 0)));
+
+		// a bigger tree with k = 3 against the sequential traversals
+		KTree<Integer> bigTree = bigTree();
+		List<Integer> levelList = bigTree.levelOrderStream().collect(Collectors.toList());
+		List<Integer> preList = bigTree.preOrderStream().collect(Collectors.toList());
+		List<Integer> postList = bigTree.postOrderStream().collect(Collectors.toList());
+		check(levelList.size() == bigTree.size() && preList.size() == bigTree.size()
+				&& postList.size() == bigTree.size()
+				&& bigTree.levelOrderStream().parallel().collect(Collectors.toList()).equals(levelList)
+				&& bigTree.preOrderStream().parallel().collect(Collectors.toList()).equals(preList)
+				&& bigTree.postOrderStream().parallel().collect(Collectors.toList()).equals(postList));
+
+		// an unsplit spliterator knows the size of the tree
+		Spliterator<Integer> split = bigTree.preOrderSpliterator();
+		check(split.hasCharacteristics(Spliterator.SIZED) && split.estimateSize() == bigTree.size());
+	}
+
+	/**
+	 * @return a tree with k = 3 and seven levels where every fifth slot is
+	 *         left empty
+	 */
+	private static KTree<Integer> bigTree() {
+		Integer[] bigInput = new Integer[3280];
+		for (int i = 0; i < bigInput.length; i++) {
+			if (i == 0 || (bigInput[(i - 1) / 3] != null && i % 5 != 0)) {
+				bigInput[i] = i;
+			}
+		}
+		return new KTree<>(bigInput, 3);
+	}
+
+	// many threads traversing one tree at the same time should each get the
+	// same answers as a single thread
+	private static void concurrentReadTests() throws InterruptedException {
+		section("Concurrent read");
+		KTree<Integer> bigTree = bigTree();
+		List<Integer> levelExpected = drain(bigTree.getLevelOrderIterator());
+		List<Integer> preExpected = drain(bigTree.getPreOrderIterator());
+		List<Integer> postExpected = drain(bigTree.getPostOrderIterator());
+		Object[] arrayExpected = bigTree.toArray();
+		Object[] mirrorExpected = bigTree.mirror();
+		Object[] subtreeExpected = bigTree.subtree(2);
+		String stringExpected = bigTree.toString();
+
+		AtomicInteger wrong = new AtomicInteger();
+		Thread[] readers = new Thread[8];
+		for (int t = 0; t < readers.length; t++) {
+			readers[t] = new Thread(() -> {
+				for (int round = 0; round < 200; round++) {
+					if (!drain(bigTree.getLevelOrderIterator()).equals(levelExpected)
+							|| !drain(bigTree.getPreOrderIterator()).equals(preExpected)
+							|| !drain(bigTree.getPostOrderIterator()).equals(postExpected)
+							|| !Arrays.equals(bigTree.toArray(), arrayExpected)
+							|| !Arrays.equals(bigTree.mirror(), mirrorExpected)
+							|| !Arrays.equals(bigTree.subtree(2), subtreeExpected)
+							|| !bigTree.toString().equals(stringExpected)) {
+						wrong.incrementAndGet();
+					}
+				}
+			});
+			readers[t].start();
+		}
+		for (Thread reader : readers) {
+			reader.join();
+		}
+		check(wrong.get() == 0);
+	}
+
+	// ConcurrentKTree
+	private static void concurrentKTreeTests() throws InterruptedException {
+		section("ConcurrentKTree");
+		int k = 3;
+		int[] indices = new int[TreeIndex.arraySize(4, k)];
+		Integer[] start = new Integer[indices.length];
+		for (int i = 0; i < indices.length; i++) {
+			indices[i] = i;
+			start[i] = 0;
+		}
+		ConcurrentKTree<Integer> tree = new ConcurrentKTree<>(start, k);
+
+		// the writer gives every node the same new version with one setAll,
+		// so a reader that sees two versions at once saw a torn write and
+		// one that sees a version older than the last finished write saw a
+		// stale one
+		int versions = 2000;
+		AtomicInteger published = new AtomicInteger();
+		AtomicInteger torn = new AtomicInteger();
+		AtomicInteger stale = new AtomicInteger();
+		Thread writer = new Thread(() -> {
+			for (int version = 1; version <= versions; version++) {
+				Integer[] values = new Integer[indices.length];
+				Arrays.fill(values, version);
+				tree.setAll(indices, values);
+				published.set(version);
+			}
+		});
+		Thread[] readers = new Thread[4];
+		for (int t = 0; t < readers.length; t++) {
+			boolean useArray = t % 2 == 0;
+			readers[t] = new Thread(() -> {
+				int seen = 0;
+				while (seen < versions) {
+					int floor = published.get();
+					List<Object> snapshot = useArray ? Arrays.asList(tree.toArray())
+							: new ArrayList<>(drain(tree.getLevelOrderIterator()));
+					Object version = snapshot.get(0);
+					if (snapshot.size() != indices.length || snapshot.stream().anyMatch(v -> !v.equals(version))) {
+						torn.incrementAndGet();
+					}
+					int single = tree.get(indices.length - 1);
+					if ((Integer) version < floor || (Integer) version < seen || single < (Integer) version) {
+						stale.incrementAndGet();
+					}
+					seen = single;
+				}
+			});
+		}
+		writer.start();
+		for (Thread reader : readers) {
+			reader.start();
+		}
+		writer.join();
+		for (Thread reader : readers) {
+			reader.join();
+		}
+		check(torn.get() == 0);
+		check(stale.get() == 0);
+		check(tree.size() == indices.length && tree.get(0) == versions
+				&& tree.toStringLevelOrder().startsWith(versions + " " + versions));
+	}
+
+	// PersistentKTree
+	private static void persistentKTreeTests() {
+		section("PersistentKTree");
+		PersistentKTree<String> first = new PersistentKTree<>(new String[] { "_", "_", "A", "B", "N" }, 2);
+		PersistentKTree<String> second = first.set(2, "Z");
+		PersistentKTree<String> third = second.set(5, "Q");
+		PersistentKTree<String> fourth = third.set(4, null);
+		check(Arrays.equals(first.toArray(), new Object[] { "_", "_", "A", "B", "N", null, null })
+				&& first.toStringPreOrder().equals("_ _ B N A") && first.size() == 5 && first.height() == 2);
+		check(second.get(2).equals("Z") && second.size() == 5 && first.get(2).equals("A"));
+		check(third.get(5).equals("Q") && !second.toStringLevelOrder().contains("Q") && third.size() == 6
+				&& second.size() == 5 && PersistentKTree.decode(second, "0001").equals("BN"));
+		check(fourth.size() == 5 && outcome(() -> fourth.get(4)) == IllegalArgumentException.class
+				&& third.get(4).equals("N") && drain(third.getPostOrderIterator()).equals(
+						Arrays.asList("B", "N", "_", "Q", "Z", "_")));
+
+		// every older version still reads the same after many sets made from
+		// it and from the versions after it
+		Random random = new Random(14);
+		int k = 3;
+		List<PersistentKTree<Integer>> versions = new ArrayList<>();
+		List<Object[]> arrays = new ArrayList<>();
+		List<List<Integer>> preOrders = new ArrayList<>();
+		versions.add(new PersistentKTree<>(randomTree(random, k, 3, 0.6), k));
+		for (int round = 0; round < 300; round++) {
+			PersistentKTree<Integer> newest = versions.get(versions.size() - 1);
+			arrays.add(newest.toArray());
+			preOrders.add(drain(newest.getPreOrderIterator()));
+			PersistentKTree<Integer> from = versions.get(random.nextInt(versions.size()));
+			int i = random.nextInt(TreeIndex.arraySize(4, k));
+			try {
+				versions.add(from.set(i, random.nextInt(4) == 0 ? null : -round));
+			} catch (InvalidTreeException e) {
+				// the parent of the node is not in the tree
+				versions.add(from);
+			}
+		}
+		boolean unchanged = true;
+		for (int v = 0; v < arrays.size(); v++) {
+			unchanged &= Arrays.equals(versions.get(v).toArray(), arrays.get(v))
+					&& drain(versions.get(v).getPreOrderIterator()).equals(preOrders.get(v));
+		}
+		check(unchanged);
+	}
+
+	// KTreeHuffman, KTreeEncoder and KTreeDecoder
+	private static void huffmanTests() {
+		section("Huffman code");
+		// Fibonacci weights make every group take the next letter, so the
+		// tree is a chain 25 levels deep with 51 nodes but 67 million slots
+		Map<String, Long> frequencies = new LinkedHashMap<>();
+		long weight = 1;
+		long nextWeight = 1;
+		for (char letter = 'a'; letter <= 'z'; letter++) {
+			frequencies.put(String.valueOf(letter), weight);
+			long sum = weight + nextWeight;
+			weight = nextWeight;
+			nextWeight = sum;
+		}
+		KTree<String> tree = KTreeHuffman.build(frequencies, 2);
+		check(tree.size() == 51 && tree.height() == 25);
+
+		KTreeEncoder encoder = new KTreeEncoder(tree);
+		KTreeDecoder decoder = new KTreeDecoder(tree);
+		check(encoder.getCode("z").length() == 1 && encoder.getCode("a").length() == 25
+				&& encoder.getCode("b").length() == 25 && encoder.getCode("y").length() == 2);
+
+		String text = "the quick brown fox jumps over the lazy dog".replace(" ", "");
+		String coded = encoder.encode(text);
+		check(decoder.decode(coded).equals(text) && KTree.decode(tree, coded).equals(text)
+				&& decoder.decodePacked(encoder.encodePacked(text)).equals(text));
+
+		// the level order walk only visits the nodes
+		check(tree.toStringLevelOrder().split(" ").length == 51);
+	}
+
+	// decode(InputStream codedMessage, Writer decoded)
+	private static void streamDecodeTests() {
+		section("Stream decode");
+		KTree<String> tree = new KTree<>(new String[] { "_", "_", "A", "B", "N" }, 2);
+		KTreeEncoder encoder = new KTreeEncoder(tree);
+		KTreeDecoder decoder = new KTreeDecoder(tree);
+
+		// A takes one digit, so 65535 of them leave the two digits of B split
+		// between the first 64 KB chunk and the next
+		StringBuilder text = new StringBuilder();
+		for (int c = 0; c < 65535; c++) {
+			text.append('A');
+		}
+		text.append("BN");
+		Random random = new Random(23);
+		for (int c = 0; c < 40000; c++) {
+			text.append("ABN".charAt(random.nextInt(3)));
+		}
+		String coded = encoder.encode(text);
+		check(coded.length() > 65536 && coded.charAt(65535) == coded.charAt(65536)
+				&& decoder.decode(coded).equals(text.toString()));
+
+		// full chunks, then one to three bytes at a time
+		check(streamDecode(decoder, coded, true).equals(decoder.decode(coded))
+				&& streamDecode(decoder, coded, false).equals(decoder.decode(coded)));
+
+		// whitespace between the digits, even inside a code, is skipped
+		StringBuilder spaced = new StringBuilder();
+		for (int i = 0; i < coded.length(); i++) {
+			spaced.append(coded.charAt(i));
+			if (i % 61 == 60) {
+				spaced.append("\r\n");
+			} else if (i % 7 == 3) {
+				spaced.append(' ');
+			}
+		}
+		check(streamDecode(decoder, spaced.toString(), true).equals(decoder.decode(coded))
+				&& streamDecode(decoder, spaced.toString(), false).equals(decoder.decode(coded)));
+
+		// a digit that is not below k throws as decode(String) does, even
+		// after the first chunk
+		String bad = coded.substring(0, 70000) + "2" + coded.substring(70000);
+		check(outcome(() -> decoder.decode(bad)) == IllegalArgumentException.class
+				&& outcome(() -> streamDecode(decoder, bad, true)) == IllegalArgumentException.class
+				&& outcome(() -> streamDecode(decoder, bad, false)) == IllegalArgumentException.class);
+	}
+
+	/**
+	 * @param decoder
+	 *            the decoder of the code tree
+	 * @param coded
+	 *            the coded message
+	 * @param fullChunks
+	 *            whether the stream fills each chunk, or gives one to three
+	 *            bytes to each read of the chunk
+	 * @return the message decoded from the stream
+	 */
+	private static String streamDecode(KTreeDecoder decoder, String coded, boolean fullChunks) {
+		StringWriter decoded = new StringWriter();
+		try {
+			decoder.decode(new TrickleStream(coded.getBytes(StandardCharsets.US_ASCII), fullChunks), decoded);
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+		return decoded.toString();
+	}
+
+	/**
+	 * A stream that gives one to three bytes per read, like a slow network.
+	 */
+	private static class TrickleStream extends InputStream {
+		private final byte[] bytes;
+		private final boolean claimsMore;
+		private int position;
+
+		/**
+		 * @param bytes
+		 *            the bytes to give
+		 * @param claimsMore
+		 *            whether available() says more bytes are ready, so the
+		 *            reader keeps reading until its chunk is full
+		 */
+		TrickleStream(byte[] bytes, boolean claimsMore) {
+			this.bytes = bytes;
+			this.claimsMore = claimsMore;
+		}
+
+		public int read() {
+			return position < bytes.length ? bytes[position++] & 0xFF : -1;
+		}
+
+		public int read(byte[] into, int offset, int length) {
+			if (position == bytes.length) {
+				return -1;
+			}
+			int count = Math.min(Math.min(length, 1 + position % 3), bytes.length - position);
+			System.arraycopy(bytes, position, into, offset, count);
+			position += count;
+			return count;
+		}
+
+		public int available() {
+			return claimsMore ? bytes.length - position : 0;
+		}
+	}
+
+	// decodeAll(List codedMessages, ExecutorService executor)
+	private static void decodeAllTests() {
+		section("decodeAll");
+		KTree<String> tree = new KTree<>(new String[] { "_", "_", "A", "B", "N" }, 2);
+		KTreeEncoder encoder = new KTreeEncoder(tree);
+		KTreeDecoder decoder = new KTreeDecoder(tree);
+		Random random = new Random(17);
+		List<String> texts = new ArrayList<>();
+		List<String> linked = new LinkedList<>();
+		for (int m = 0; m < 50000; m++) {
+			StringBuilder text = new StringBuilder();
+			for (int c = random.nextInt(6); c >= 0; c--) {
+				text.append("ABN".charAt(random.nextInt(3)));
+			}
+			texts.add(text.toString());
+			linked.add(encoder.encode(text));
+		}
+
+		// a list that counts the messages looked up by position, each of
+		// which walks the linked list from one end
+		AtomicInteger gets = new AtomicInteger();
+		List<String> coded = new AbstractSequentialList<String>() {
+			public ListIterator<String> listIterator(int index) {
+				return linked.listIterator(index);
+			}
+
+			public int size() {
+				return linked.size();
+			}
+
+			public String get(int index) {
+				gets.incrementAndGet();
+				return super.get(index);
+			}
+		};
+		ExecutorService executor = Executors.newFixedThreadPool(4);
+		try {
+			check(decoder.decodeAll(coded, executor).equals(texts) && gets.get() == 0);
+			check(decoder.decodeAll(coded).equals(texts) && decoder.decodeAll(new ArrayList<>(), executor).isEmpty());
+		} finally {
+			executor.shutdown();
+		}
+	}
+
+	// encodePacked(CharSequence text), decodePacked(byte[] packed)
+	private static void packedCodeTests() {
+		section("Packed code");
+		// k = 37 and 64 take six bits a digit, 65 takes seven and 200 eight
+		for (int k : new int[] { 37, 64, 65, 200 }) {
+			// the root holds k - 1 letters and a "_" whose children are k more
+			String[] input = new String[2 * k + 1];
+			input[0] = "_";
+			input[1] = "_";
+			for (int i = 2; i < input.length; i++) {
+				input[i] = "L" + i + ".";
+			}
+			KTree<String> tree = new KTree<>(input, k);
+			KTreeEncoder encoder = new KTreeEncoder(tree);
+			KTreeDecoder decoder = new KTreeDecoder(tree);
+
+			Random random = new Random(k);
+			StringBuilder text = new StringBuilder();
+			for (int c = 0; c < 1000; c++) {
+				text.append(input[2 + random.nextInt(input.length - 2)]);
+			}
+			check(decoder.decodePacked(encoder.encodePacked(text)).equals(text.toString())
+					&& decoder.decodePacked(encoder.encodePacked("")).isEmpty());
+
+			// the paths are there for any k, but digits above 35 have no char
+			String last = input[input.length - 1];
+			check(Arrays.equals(encoder.getPath(last), new int[] { 0, k - 1 })
+					&& Arrays.equals(encoder.getPath("L2."), new int[] { 1 })
+					&& outcome(() -> encoder.getCode(last)) == IllegalArgumentException.class
+					&& outcome(() -> encoder.encode(text)) == IllegalArgumentException.class);
+		}
+	}
+
+	// public SubtreeView subtreeView(int i)
+	private static void subtreeViewTests() {
+		section("subtreeView");
+		KTree<Integer> tree = new KTree<>(new Integer[] { 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12, 13, 14 }, 2);
+		KTree<Integer>.SubtreeView view = tree.subtreeView(2);
+		check(view.get(0) == 2 && view.get(1) == 5 && view.get(2) == 6 && view.get(3) == 11 && view.get(6) == 14);
+		check(Arrays.equals(view.toArray(), tree.subtree(2)) && view.size() == 7 && view.height() == 2);
+		check(drain(view.getPreOrderIterator()).equals(Arrays.asList(2, 5, 11, 12, 6, 13, 14))
+				&& drain(view.getPostOrderIterator()).equals(Arrays.asList(11, 12, 5, 13, 14, 6, 2)));
+
+		// the view sees later changes to the tree
+		tree.set(13, null);
+		boolean passed = false;
+		try {
+			view.get(5);
+		} catch (IllegalArgumentException e) {
+			passed = view.size() == 6;
+		}
+		check(passed);
+	}
+
+	// public MirrorView mirroredView()
+	private static void mirroredViewTests() {
+		section("mirroredView");
+		KTree<Integer>.MirrorView mirrorView = new KTree<>(FULL, 2).mirroredView();
+		check(mirrorView.get(1) == 2 && mirrorView.get(3) == 6 && mirrorView.get(14) == 7
+				&& Arrays.equals(mirrorView.toArray(), FULL_MIRROR));
+		check(drain(mirrorView.getPreOrderIterator())
+				.equals(Arrays.asList(0, 2, 6, 14, 13, 5, 12, 11, 1, 4, 10, 9, 3, 8, 7)));
+		check(KTree.decode(new KTree<String>(
+				new String[] { "_", "_", "_", "B", "S", null, null, "N", null, "A", null, null, null }, 3)
+						.mirroredView(),
+				"0101210121022").equals("BANANAS"));
+	}
+
+	// public KTree<E> mirrorInPlace()
+	private static void mirrorInPlaceTests() {
+		section("mirrorInPlace");
+		KTree<Integer> tree = new KTree<>(FULL, 2);
+		check(Arrays.equals(tree.mirrorInPlace().toArray(), FULL_MIRROR) && tree.get(1) == 2 && tree.get(14) == 7);
+
+		// a node with fewer than k children keeps its children on the far side
+		// once mirrored
+		KTree<String> partial = new KTree<>(new String[] { "_", "A", "B", null, null, null, null }, 3);
+		partial.mirrorInPlace();
+		check(partial.toString().equals("_\nnull B A") && partial.set(7, "C") && partial.get(7).equals("C"));
+	}
+
+	// public E[] toArray(IntFunction<E[]> generator)
+	private static void cachedToArrayTests() {
+		section("cached toArray");
+		KTree<Integer> tree = new KTree<>(new Integer[] { 0, 1, 2, 3, null, 5, null }, 2);
+		Integer[] typedArray = tree.toArray(Integer[]::new);
+		check(typedArray.length == 7 && typedArray[5] == 5 && typedArray[4] == null);
+
+		// changing the array given back does not change the tree or the next
+		// array
+		typedArray[0] = 100;
+		tree.toArray()[1] = 100;
+		check(tree.toArray()[0].equals(0) && tree.toArray()[1].equals(1));
+
+		// giving a node the value it has keeps the cached String
+		String cachedString = tree.toString();
+		tree.set(2, 2);
+		check(tree.toString() == cachedString);
+
+		tree.set(4, 4);
+		check(tree.toArray()[4].equals(4) && tree.toStringLevelOrder().equals("0 1 2 3 4 5")
+				&& !tree.toString().equals(cachedString));
+	}
+
+	// public void writeTo(DataOutput out, ValueCodec<E> codec)
+	// public static <E> KTree<E> readFrom(DataInput in, ValueCodec<E> codec)
+	private static void writeToReadFromTests() throws IOException {
+		section("writeTo and readFrom");
+		KTree<String> tree = new KTree<>(new String[] { "_", "_", "A", "B", "N", null, null }, 2);
+		ByteArrayOutputStream saved = new ByteArrayOutputStream();
+		tree.writeTo(new DataOutputStream(saved), ValueCodec.STRING);
+		KTree<String> loaded = KTree.readFrom(new DataInputStream(new ByteArrayInputStream(saved.toByteArray())),
+				ValueCodec.STRING);
+		check(Arrays.equals(loaded.toArray(), tree.toArray()) && loaded.size() == tree.size()
+				&& loaded.height() == tree.height());
+
+		// a sparse tree takes only a few bytes for each node
+		Long[] sparse = new Long[TreeIndex.arraySize(12, 2)];
+		for (int i = 0; i < sparse.length; i = i * 2 + 1) {
+			sparse[i] = (long) i;
+		}
+		saved.reset();
+		new KTree<>(sparse, 2).writeTo(new DataOutputStream(saved), ValueCodec.LONG);
+		KTree<Long> sparseLoaded = KTree.readFrom(
+				new DataInputStream(new ByteArrayInputStream(saved.toByteArray())), ValueCodec.LONG);
+		check(saved.size() < 200 && Arrays.equals(sparseLoaded.toArray(), sparse));
+
+		check(corrupt(new byte[] { 1, 2, 3, 4 }));
+
+		// a header claiming far more nodes than the stream holds, or more
+		// than its height has room for, is turned away without making room
+		// for them
+		byte[] header = { 0x4B, 0x54, 0x52, 0x53, 0, 0, 0, 1, 2 };
+		byte[] hugeSize = { (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, 0x07, 30 };
+		byte[] tooDeep = { 3, 5 };
+		byte[] tooShallow = { 100, 1 };
+		byte[] endsEarly = { (byte) 0xC0, (byte) 0x84, 0x3D, 19, 1, 1 };
+		check(corrupt(header, hugeSize) && corrupt(header, tooDeep) && corrupt(header, tooShallow)
+				&& corrupt(header, endsEarly));
+
+		// a value whose length is corrupt
+		saved.reset();
+		new KTree<>(new String[] { "A" }, 2).writeTo(new DataOutputStream(saved), ValueCodec.STRING);
+		byte[] value = saved.toByteArray();
+		value[value.length - 5] = 0x7F;
+		check(corrupt(value));
+	}
+
+	/**
+	 * @param parts
+	 *            the bytes of the stream, one piece after another
+	 * @return true if readFrom() turned the stream away with an IOException
+	 */
+	private static boolean corrupt(byte[]... parts) {
+		ByteArrayOutputStream stream = new ByteArrayOutputStream();
+		for (byte[] part : parts) {
+			stream.write(part, 0, part.length);
+		}
+		try {
+			KTree.readFrom(new DataInputStream(new ByteArrayInputStream(stream.toByteArray())), ValueCodec.STRING);
+		} catch (IOException e) {
+			return true;
+		}
+		return false;
+	}
+}